@@ -0,0 +1,156 @@
+package com.taskflow.config;
+
+import com.taskflow.exception.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder decorator that runs the (deliberately slow) delegate on a
+ * small fixed pool with a bounded queue.
+ *
+ * During a login storm at most 'poolSize' hashes burn CPU at once, so the
+ * rest of the API keeps its cores; request threads only park while waiting.
+ * When the queue is full the call fails immediately with a 503 instead of
+ * piling up behind the hashes already queued.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        int poolSize,
+        int queueCapacity
+    ) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+            "password-hash-"
+        );
+        threadFactory.setDaemon(true);
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes many passwords in parallel (bulk provisioning).
+     * At most 'poolSize' hashes are in flight at a time, so a large batch
+     * never takes more queue slots than that away from logins.
+     *
+     * @return The hashes, in the order of 'rawPasswords'.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore inFlight = new Semaphore(executor.getCorePoolSize());
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                inFlight.acquire();
+                try {
+                    futures.add(
+                        executor.submit(() -> {
+                            try {
+                                return delegate.encode(rawPassword);
+                            } finally {
+                                inFlight.release();
+                            }
+                        })
+                    );
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    throw new ServiceUnavailableException(
+                        "Password hashing is saturated, please retry shortly"
+                    );
+                }
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(await(future));
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted");
+        } finally {
+            // No-op for completed hashes; stops the rest after a failure
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Cheap (reads the hash prefix), so it stays on the caller's thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Exposed for metrics.
+     */
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Called by Spring on context close (inferred destroy method).
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(
+                "Too many sign-in requests in progress, please retry shortly"
+            );
+        }
+        try {
+            return await(future);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check was interrupted");
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
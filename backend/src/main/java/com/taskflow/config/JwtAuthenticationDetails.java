@@ -0,0 +1,34 @@
+package com.taskflow.config;
+
+import com.taskflow.entity.TeamRole;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Date;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Authentication details for JWT-authenticated requests.
+ * Carries the access token's id and expiry (for logout), and the team roles
+ * from the access token when the token was issued at the user's current
+ * membership version, so authorization can skip the database; null otherwise.
+ */
+@Getter
+public class JwtAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final String tokenId; // null for tokens issued without a jti
+    private final Date expiresAt;
+    private final Map<Long, TeamRole> teamRoles;
+
+    public JwtAuthenticationDetails(
+        HttpServletRequest request,
+        String tokenId,
+        Date expiresAt,
+        Map<Long, TeamRole> teamRoles
+    ) {
+        super(request);
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.teamRoles = teamRoles;
+    }
+}
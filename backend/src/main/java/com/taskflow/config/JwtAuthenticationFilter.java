@@ -1,11 +1,18 @@
 package com.taskflow.config;
 
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
 import com.taskflow.service.JwtService;
+import com.taskflow.service.TeamClaimsService;
+import com.taskflow.service.TokenPrincipalService;
+import com.taskflow.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
@@ -13,7 +20,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -27,6 +33,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TeamClaimsService teamClaimsService;
+    private final TokenPrincipalService tokenPrincipalService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -48,20 +57,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7); // "Bearer ".length()
 
         try {
-            // 3. Extract email (username) from token
-            userEmail = jwtService.extractUsername(jwt);
+            // 3. Verify the token once and extract email (username)
+            Claims claims = jwtService.parseClaims(jwt);
+            userEmail = claims.getSubject();
 
             // 4. Check if user is already authenticated
             if (
                 userEmail != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null
             ) {
-                // 5. Load user details from the database
-                UserDetails userDetails =
-                    this.userDetailsService.loadUserByUsername(userEmail);
+                // Logged-out tokens; usually answered by the in-memory filter
+                if (tokenRevocationService.isRevoked(claims)) {
+                    log.warn("Revoked JWT token for user {}", userEmail);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // 5. Build the principal from the token, or load it from the database
+                UserDetails userDetails = tokenPrincipalService
+                    .fromClaims(claims)
+                    .map(UserDetails.class::cast)
+                    .orElseGet(() ->
+                        this.userDetailsService.loadUserByUsername(userEmail)
+                    );
 
-                // 6. Validate the token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                // 6. Validate the token; suspended users are rejected here too
+                if (
+                    jwtService.isTokenValid(claims, userDetails) &&
+                    userDetails.isAccountNonLocked()
+                ) {
                     // 7. Create an authentication token
                     UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
@@ -70,9 +94,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             userDetails.getAuthorities()
                         );
 
+                    // Team claims are only trusted at the current membership version
+                    Map<Long, TeamRole> teamRoles = userDetails instanceof User user
+                        ? teamClaimsService.readTeamRoles(claims, user)
+                        : null;
                     authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(
-                            request
+                        new JwtAuthenticationDetails(
+                            request,
+                            claims.getId(),
+                            claims.getExpiration(),
+                            teamRoles
                         )
                     );
 
@@ -0,0 +1,205 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.entity.User;
+import com.taskflow.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Per-route rate limiting (app.rate-limit.rules).
+ * Runs after JwtAuthenticationFilter so USER rules can key on the user id.
+ * Rejected requests get 429 with Retry-After.
+ *
+ * Behind a proxy, set server.forward-headers-strategy so getRemoteAddr()
+ * is the client address rather than the proxy's.
+ *
+ * Metrics: rate.limit.rejected{rule}, rate.limit.buckets.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final RateLimiter rateLimiter;
+    private final List<CompiledRule> rules;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(
+        RateLimitProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.isEnabled();
+        this.rateLimiter = new RateLimiter(
+            properties.getMaxBuckets(),
+            properties.getIdleTimeout()
+        );
+        this.objectMapper = objectMapper;
+        this.rules = properties
+            .getRules()
+            .stream()
+            .map(rule -> new CompiledRule(rule, meterRegistry))
+            .collect(Collectors.toList());
+        Gauge.builder("rate.limit.buckets", rateLimiter, RateLimiter::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        // 1. Find the first rule for this route
+        CompiledRule rule = enabled ? match(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. Take a token from the client's bucket
+        Object subject = rule.keyType == RateLimitProperties.KeyType.USER
+            ? currentUserId()
+            : null;
+        if (subject == null) {
+            subject = request.getRemoteAddr();
+        }
+        long waitNanos = rateLimiter.tryAcquire(
+            new BucketKey(rule.name, subject),
+            rule.limit,
+            System.nanoTime()
+        );
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 3. Over the limit: 429 with the wait in whole seconds
+        rule.rejected.increment();
+        log.debug("Rate limit {} exceeded by {}", rule.name, subject);
+        reject(request, response, waitNanos);
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRule rule : rules) {
+            if (
+                (rule.methods.isEmpty() || rule.methods.contains(request.getMethod())) &&
+                rule.pattern.matches(path)
+            ) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private void reject(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        long waitNanos
+    ) throws IOException {
+        long retryAfterSeconds = Math.max(
+            1,
+            TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+        );
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+            .message("Too many requests, please retry later")
+            .path(request.getRequestURI())
+            .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static final class CompiledRule {
+
+        private final String name;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final RateLimitProperties.KeyType keyType;
+        private final RateLimiter.Limit limit;
+        private final Counter rejected;
+
+        CompiledRule(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            this.name = rule.getName();
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPath());
+            this.methods = rule
+                .getMethods()
+                .stream()
+                .map(String::toUpperCase)
+                .collect(Collectors.toUnmodifiableSet());
+            this.keyType = rule.getKey();
+            this.limit = new RateLimiter.Limit(rule.getCapacity(), rule.getPeriod());
+            this.rejected = meterRegistry.counter("rate.limit.rejected", "rule", name);
+        }
+    }
+
+    /**
+     * Bucket identity: the rule plus a user id (Long) or client address (String).
+     */
+    private static final class BucketKey {
+
+        private final String rule;
+        private final Object subject;
+        private final int hash;
+
+        BucketKey(String rule, Object subject) {
+            this.rule = rule;
+            this.subject = subject;
+            this.hash = 31 * rule.hashCode() + subject.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (
+                other instanceof BucketKey key &&
+                hash == key.hash &&
+                rule.equals(key.rule) &&
+                subject.equals(key.subject)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limit settings (app.rate-limit). Rules are a list, which @Value
+ * cannot bind, hence a properties class.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Bucket map bounds; an idle bucket has refilled, so dropping it loses nothing
+    private long maxBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(15);
+
+    // First matching rule wins
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;
+        private String path; // PathPattern syntax, e.g. /api/v1/tasks/**
+        private List<String> methods = new ArrayList<>(); // Empty: any method
+        private KeyType key = KeyType.IP;
+        private long capacity; // Burst size
+        private Duration period; // Time to refill 'capacity' tokens
+    }
+
+    public enum KeyType {
+        /** Per client address. */
+        IP,
+        /** Per authenticated user; anonymous requests fall back to IP. */
+        USER,
+    }
+}
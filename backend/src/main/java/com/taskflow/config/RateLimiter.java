@@ -0,0 +1,111 @@
+package com.taskflow.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by (rule, client), kept in a bounded Caffeine map
+ * (striped internally, so lookups do not contend) with idle eviction.
+ *
+ * Each bucket is one AtomicLong updated with a CAS loop using GCRA, the
+ * "virtual scheduling" form of a token bucket: it stores the theoretical
+ * arrival time of the next request instead of a token count and timestamp,
+ * so a check is one read, one comparison and one CAS, with no locks and no
+ * allocation on the hot path.
+ */
+public class RateLimiter {
+
+    private final Cache<Object, TokenBucket> buckets;
+
+    public RateLimiter(long maxBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxBuckets)
+            .expireAfterAccess(idleTimeout)
+            .build();
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @param nowNanos System.nanoTime() of the request.
+     * @return 0 if permitted, otherwise nanoseconds until a token is available.
+     */
+    public long tryAcquire(Object key, Limit limit, long nowNanos) {
+        return tryAcquire(key, limit, 1, nowNanos);
+    }
+
+    /**
+     * Takes 'permits' tokens at once (e.g. one per row of a bulk request).
+     * Nothing is taken unless all of them are available.
+     *
+     * @param permits At least 1 and at most the limit's capacity.
+     * @return 0 if permitted, otherwise nanoseconds until enough tokens are available.
+     */
+    public long tryAcquire(Object key, Limit limit, long permits, long nowNanos) {
+        if (permits < 1 || permits > limit.capacity) {
+            throw new IllegalArgumentException("permits must be in [1, capacity]");
+        }
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new TokenBucket(nowNanos));
+        }
+        return bucket.tryAcquire(limit, permits, nowNanos);
+    }
+
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 'capacity' tokens per 'period', with bursts of up to 'capacity'.
+     */
+    public static final class Limit {
+
+        private final long capacity;
+        private final long intervalNanos; // One token per interval
+        private final long toleranceNanos; // How far ahead the schedule may run
+
+        public Limit(long capacity, Duration period) {
+            if (capacity <= 0 || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("capacity and period must be positive");
+            }
+            this.capacity = capacity;
+            this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+            this.toleranceNanos = intervalNanos * (capacity - 1);
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+    }
+
+    /**
+     * Holds the theoretical arrival time (TAT) in nanoTime units.
+     * Extends AtomicLong to save an object per bucket.
+     */
+    static final class TokenBucket extends AtomicLong {
+
+        TokenBucket(long nowNanos) {
+            super(nowNanos);
+        }
+
+        long tryAcquire(Limit limit, long permits, long nowNanos) {
+            // The last of the permits must fit within the tolerance
+            long extraNanos = limit.intervalNanos * (permits - 1);
+            while (true) {
+                long arrival = get();
+                // nanoTime values are only compared by difference
+                long base = arrival - nowNanos > 0 ? arrival : nowNanos;
+                long ahead = base - nowNanos + extraNanos;
+                if (ahead > limit.toleranceNanos) {
+                    return ahead - limit.toleranceNanos;
+                }
+                if (compareAndSet(arrival, base + limit.intervalNanos * permits)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
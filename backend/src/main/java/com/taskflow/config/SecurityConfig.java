@@ -1,8 +1,12 @@
 package com.taskflow.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,18 +33,51 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 @EnableMethodSecurity // Enables method-level security like @PreAuthorize
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
 
     // We will inject the UserDetailsService implementation from the next file
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Defines the PasswordEncoder bean (BCrypt).
+     * Hashing runs on a bounded pool (see BoundedPasswordEncoder). Hashes with
+     * a lower cost than 'strength' are rehashed on the next successful login
+     * through UserDetailsServiceImpl.updatePassword.
+     *
+     * The default pool is half the cores. On hosts with fewer than 4 cores
+     * that still lets a login storm take most of the CPU, so such hosts
+     * should set app.security.bcrypt.pool-size (a warning is logged).
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        MeterRegistry meterRegistry,
+        @Value("${app.security.bcrypt.strength:10}") int strength,
+        @Value("${app.security.bcrypt.pool-size:0}") int poolSize,
+        @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity
+    ) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (poolSize <= 0 && cores < 4) {
+            log.warn(
+                "Only {} cores: the default password hashing pool leaves little CPU " +
+                "for other requests during a login storm; set app.security.bcrypt.pool-size",
+                cores
+            );
+        }
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            // Default: half the cores (at least one)
+            poolSize > 0 ? poolSize : Math.max(1, cores / 2),
+            queueCapacity
+        );
+        ExecutorServiceMetrics.monitor(
+            meterRegistry,
+            encoder.getExecutor(),
+            "password.hash"
+        );
+        return encoder;
     }
 
     /**
@@ -79,7 +116,8 @@ public class SecurityConfig {
                     .requestMatchers(
                         org.springframework.http.HttpMethod.POST,
                         "/api/v1/auth/register",
-                        "/api/v1/auth/login"
+                        "/api/v1/auth/login",
+                        "/api/v1/auth/refresh"
                     )
                     .permitAll()
                     // Password reset endpoints to be added later
@@ -102,7 +140,9 @@ public class SecurityConfig {
             .addFilterBefore(
                 jwtAuthenticationFilter,
                 UsernamePasswordAuthenticationFilter.class
-            );
+            )
+            // 7. Rate limit after authentication, so per-user rules see the user
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
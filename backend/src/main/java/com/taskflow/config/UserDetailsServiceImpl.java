@@ -1,19 +1,28 @@
 package com.taskflow.config;
 
+import com.taskflow.entity.User;
 import com.taskflow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implements UserDetailsService to load user-specific data.
  * This service is used by Spring Security to authenticate a user.
+ * As a UserDetailsPasswordService it also stores upgraded hashes: Spring
+ * Security calls updatePassword after a successful login whose stored hash
+ * has a lower BCrypt cost than the configured one.
  */
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl
+    implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -32,4 +41,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 )
             );
     }
+
+    /**
+     * Saves a rehashed password for a user who just logged in.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        userRepository.updatePasswordHash(user.getId(), newPassword);
+        user.setPasswordHash(newPassword);
+        log.info("Upgraded password hash for user {}", user.getId());
+        return user;
+    }
 }
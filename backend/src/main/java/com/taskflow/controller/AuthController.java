@@ -1,14 +1,19 @@
 package com.taskflow.controller;
 
+import com.taskflow.config.JwtAuthenticationDetails;
 import com.taskflow.dto.LoginRequest;
 import com.taskflow.dto.LoginResponse;
+import com.taskflow.dto.RefreshTokenRequest;
 import com.taskflow.dto.RegisterRequest;
 import com.taskflow.dto.UserDto;
+import com.taskflow.entity.User;
 import com.taskflow.service.AuthService;
 import jakarta.validation.Valid;
+import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -60,6 +65,49 @@ public class AuthController {
         return ResponseEntity.ok(loginResponse);
     }
 
+    /**
+     * POST /api/v1/auth/refresh
+     * Endpoint for exchanging a refresh token for new tokens.
+     *
+     * @param refreshTokenRequest The request body containing the refresh token.
+     * @return A ResponseEntity with the LoginResponse (rotated tokens) and HTTP status 200.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refreshToken(
+        @Valid @RequestBody RefreshTokenRequest refreshTokenRequest
+    ) {
+        LoginResponse loginResponse = authService.refresh(refreshTokenRequest);
+        return ResponseEntity.ok(loginResponse);
+    }
+
+    /**
+     * POST /api/v1/auth/logout
+     * Endpoint for logging out: the access token stops working immediately.
+     *
+     * @param refreshTokenRequest Optional body; its refresh token's session is ended too.
+     * @return HTTP status 204.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logoutUser(
+        @AuthenticationPrincipal User currentUser,
+        Authentication authentication,
+        @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest
+    ) {
+        String tokenId = null;
+        Date expiresAt = null;
+        if (authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            tokenId = details.getTokenId();
+            expiresAt = details.getExpiresAt();
+        }
+        authService.logout(
+            currentUser,
+            tokenId,
+            expiresAt,
+            refreshTokenRequest == null ? null : refreshTokenRequest.getRefreshToken()
+        );
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * A test endpoint to verify JWT authentication.
      * It's secured because it's not under /api/v1/auth/**
@@ -1,20 +1,41 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.BulkUpdateTasksRequest;
+import com.taskflow.dto.BulkUpdateTasksResponse;
 import com.taskflow.dto.CommentDto;
 import com.taskflow.dto.CreateCommentRequest;
 import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.PageDto;
+import com.taskflow.dto.TaskChangesDto;
 import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskEventDto;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.TaskImportSummary;
 import com.taskflow.dto.UpdateTaskRequest;
 import com.taskflow.entity.User;
 import com.taskflow.service.CommentService;
+import com.taskflow.service.TaskActivityService;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskImportService;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.TeamVersionService;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST Controller for Task Management endpoints.
@@ -26,6 +47,10 @@ public class TaskController {
 
     private final TaskService taskService;
     private final CommentService commentService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final TeamVersionService teamVersionService;
+    private final TaskActivityService taskActivityService;
 
     /**
      * POST /api/v1/tasks
@@ -42,16 +67,167 @@ public class TaskController {
 
     /**
      * GET /api/v1/tasks
-     * Lists tasks. Requires a 'teamId' query parameter.
+     * Lists a team's tasks one keyset page at a time, ordered by due date.
+     * Filters: status, priority, assigneeId, archived (default false),
+     * dueFrom, dueTo. Pass the returned nextCursor as 'cursor' for the next page.
+     * Answers 304 from the team version alone when If-None-Match is current.
      */
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getTasks(
-        @RequestParam Long teamId, // Required param for now
+    public ResponseEntity<CursorPageDto<TaskDto>> getTasks(
+        @RequestParam Long teamId,
+        @ModelAttribute TaskFilter filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+        @AuthenticationPrincipal User currentUser,
+        WebRequest webRequest
+    ) {
+        String eTag = teamVersionService.getTeamTasksETag(teamId, currentUser);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 already written
+        }
+        CursorPageDto<TaskDto> page = taskService.getTasksForTeam(
+            teamId,
+            filter,
+            cursor,
+            limit,
+            currentUser
+        );
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(page);
+    }
+
+    /**
+     * GET /api/v1/tasks/mine
+     * Lists the caller's assigned tasks across all their teams, one keyset
+     * page at a time, ordered by due date.
+     * Filters: status, priority, archived (default false), dueFrom, dueTo.
+     */
+    @GetMapping("/mine")
+    public ResponseEntity<CursorPageDto<TaskDto>> getMyTasks(
+        @ModelAttribute TaskFilter filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
         @AuthenticationPrincipal User currentUser
     ) {
-        // We'll add more filters later (status, assignee, etc.)
-        List<TaskDto> tasks = taskService.getTasksForTeam(teamId, currentUser);
-        return ResponseEntity.ok(tasks);
+        CursorPageDto<TaskDto> page = taskService.getMyTasks(
+            filter,
+            cursor,
+            limit,
+            currentUser
+        );
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/v1/tasks/changes
+     * Delta sync: tasks created, updated or archived since the 'since' cursor.
+     * Omit 'since' for a full sync; keep calling while hasMore is true.
+     * 410 Gone: the cursor is past tombstone retention; do a full sync.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDto> getTaskChanges(
+        @RequestParam Long teamId,
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "" + TaskService.MAX_PAGE_SIZE) int limit,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        TaskChangesDto changes = taskService.getTaskChanges(
+            teamId,
+            since,
+            limit,
+            currentUser
+        );
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * GET /api/v1/tasks/search
+     * Ranked full-text search over titles and descriptions in the caller's
+     * teams (or one team if 'teamId' is given).
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageDto<TaskDto>> searchTasks(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) Long teamId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        PageDto<TaskDto> results = taskService.searchTasks(
+            query,
+            teamId,
+            page,
+            size,
+            currentUser
+        );
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * POST /api/v1/tasks/import
+     * Streams an NDJSON body (one task per line) into a team.
+     * Use 'startRow' with a previous summary's resumeFromRow to resume.
+     */
+    @PostMapping(
+        value = "/import",
+        consumes = { "application/x-ndjson", "application/json" }
+    )
+    public ResponseEntity<TaskImportSummary> importTasks(
+        @RequestParam Long teamId,
+        @RequestParam(defaultValue = "0") long startRow,
+        InputStream body,
+        @AuthenticationPrincipal User currentUser
+    ) throws IOException {
+        TaskImportSummary summary = taskImportService.importTasks(
+            teamId,
+            body,
+            startRow,
+            currentUser
+        );
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * GET /api/v1/tasks/export
+     * Streams all of a team's tasks as NDJSON (default) or CSV.
+     * Accepts the same filters as the listing; gzip=true compresses the body.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @RequestParam Long teamId,
+        @ModelAttribute TaskFilter filter,
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(defaultValue = "false") boolean gzip,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        TaskExportService.Format exportFormat =
+            TaskExportService.Format.fromParam(format);
+        // Check access before streaming starts, so errors still map to 403
+        taskExportService.verifyAccess(teamId, currentUser);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip
+                ? new GZIPOutputStream(outputStream, 64 * 1024)
+                : outputStream;
+            taskExportService.export(teamId, filter, exportFormat, out);
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks-team-" +
+                    teamId +
+                    "." +
+                    exportFormat.getFileExtension() +
+                    "\""
+            );
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /**
@@ -67,6 +243,22 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    /**
+     * PATCH /api/v1/tasks/bulk
+     * Applies many partial updates in one call and reports per-item results.
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkUpdateTasksResponse> bulkUpdateTasks(
+        @Valid @RequestBody BulkUpdateTasksRequest request,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        BulkUpdateTasksResponse response = taskService.bulkUpdateTasks(
+            request,
+            currentUser
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * PATCH /api/v1/tasks/{id}
      * Partially updates a task.
@@ -129,4 +321,20 @@ public class TaskController {
         );
         return ResponseEntity.ok(comments);
     }
+
+    /**
+     * GET /api/v1/tasks/{id}/activity
+     * The task's change history, newest first, one keyset page at a time.
+     */
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CursorPageDto<TaskEventDto>> getTaskActivity(
+        @PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + TaskActivityService.DEFAULT_PAGE_SIZE) int limit,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(
+            taskActivityService.getTaskActivity(id, cursor, limit, currentUser)
+        );
+    }
 }
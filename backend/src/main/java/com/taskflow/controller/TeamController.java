@@ -1,18 +1,29 @@
 package com.taskflow.controller;
 
 import com.taskflow.dto.AcceptInviteRequest;
+import com.taskflow.dto.BulkProvisionUsersRequest;
+import com.taskflow.dto.BulkProvisionUsersResponse;
 import com.taskflow.dto.CreateTeamRequest;
+import com.taskflow.dto.CursorPageDto;
 import com.taskflow.dto.InviteUserRequest;
+import com.taskflow.dto.TaskEventDto;
 import com.taskflow.dto.TeamDto;
+import com.taskflow.dto.TeamStatsDto;
 import com.taskflow.entity.User;
+import com.taskflow.service.TaskActivityService;
 import com.taskflow.service.TeamService;
+import com.taskflow.service.TeamStatsService;
+import com.taskflow.service.TeamVersionService;
+import com.taskflow.service.UserProvisioningService;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST Controller for Team Management endpoints.
@@ -24,6 +35,10 @@ import org.springframework.web.bind.annotation.*;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamStatsService teamStatsService;
+    private final TeamVersionService teamVersionService;
+    private final TaskActivityService taskActivityService;
+    private final UserProvisioningService userProvisioningService;
 
     /**
      * POST /api/v1/teams
@@ -41,13 +56,18 @@ public class TeamController {
     /**
      * GET /api/v1/teams
      * Lists all teams the authenticated user belongs to.
+     * Answers 304 from the team versions alone when If-None-Match is current.
      */
     @GetMapping
     public ResponseEntity<List<TeamDto>> getUserTeams(
-        @AuthenticationPrincipal User currentUser
+        @AuthenticationPrincipal User currentUser,
+        WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(teamVersionService.getTeamsETag(currentUser))) {
+            return null; // 304 already written
+        }
         List<TeamDto> teams = teamService.getTeamsForUser(currentUser);
-        return ResponseEntity.ok(teams);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(teams);
     }
 
     /**
@@ -65,6 +85,22 @@ public class TeamController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * POST /api/v1/teams/{id}/users/bulk
+     * Creates many user accounts at once, optionally as team members, and
+     * reports per-row results. (Admin only)
+     */
+    @PostMapping("/{id}/users/bulk")
+    public ResponseEntity<BulkProvisionUsersResponse> provisionUsers(
+        @PathVariable Long id,
+        @Valid @RequestBody BulkProvisionUsersRequest request,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(
+            userProvisioningService.provisionUsers(id, request, currentUser)
+        );
+    }
+
     /**
      * POST /api/v1/teams/invite/accept
      * Accepts a team invitation using a token.
@@ -79,5 +115,45 @@ public class TeamController {
         return ResponseEntity.ok(joinedTeam);
     }
 
+    /**
+     * GET /api/v1/teams/{id}/stats
+     * Dashboard counts by status, priority and assignee, plus overdue.
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<TeamStatsDto> getTeamStats(
+        @PathVariable Long id,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(teamStatsService.getStats(id, currentUser));
+    }
+
+    /**
+     * POST /api/v1/teams/{id}/stats/rebuild
+     * Recomputes the team's counters from its tasks. (Admin only)
+     */
+    @PostMapping("/{id}/stats/rebuild")
+    public ResponseEntity<TeamStatsDto> rebuildTeamStats(
+        @PathVariable Long id,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(teamStatsService.rebuild(id, currentUser));
+    }
+
+    /**
+     * GET /api/v1/teams/{id}/activity
+     * Activity feed of all the team's tasks, newest first, one keyset page at a time.
+     */
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CursorPageDto<TaskEventDto>> getTeamActivity(
+        @PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + TaskActivityService.DEFAULT_PAGE_SIZE) int limit,
+        @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(
+            taskActivityService.getTeamActivity(id, cursor, limit, currentUser)
+        );
+    }
+
     // We will add GET /api/v1/teams/{id}/members, etc., later.
 }
@@ -0,0 +1,45 @@
+package com.taskflow.dto;
+
+import com.taskflow.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in an activity feed ordered by event_id, newest first.
+ * Encoded as an opaque, URL-safe string for clients, like TaskCursor.
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityCursor {
+
+    private final long eventId; // Last event seen; the next page is older
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(String.valueOf(eventId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @return The cursor, or null if the value is blank (newest page).
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    public static ActivityCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8
+            );
+            return new ActivityCursor(Long.parseLong(raw));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProvisionUsersRequest {
+
+    @NotEmpty(message = "Users cannot be empty")
+    @Size(max = 1000, message = "At most 1000 users per request")
+    private List<@Valid ProvisionUserRow> users;
+
+    @Builder.Default
+    private boolean addToTeam = true; // Also make every created user a team member
+}
@@ -0,0 +1,20 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item in a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+
+    private Long taskId;
+    private boolean success;
+    private String error; // null on success
+}
@@ -0,0 +1,25 @@
+package com.taskflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One item of a bulk update: the task to change and its partial update.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdate {
+
+    @NotNull(message = "Task ID cannot be null")
+    private Long taskId;
+
+    @Valid
+    @NotNull(message = "Changes cannot be null")
+    private UpdateTaskRequest changes;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTasksRequest {
+
+    @NotEmpty(message = "Updates cannot be empty")
+    @Size(max = 1000, message = "At most 1000 updates per request")
+    private List<@Valid BulkTaskUpdate> updates;
+}
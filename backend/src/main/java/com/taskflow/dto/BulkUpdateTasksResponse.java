@@ -0,0 +1,18 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTasksResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskResult> results; // Same order as the request
+}
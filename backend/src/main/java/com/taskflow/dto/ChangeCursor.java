@@ -0,0 +1,54 @@
+package com.taskflow.dto;
+
+import com.taskflow.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Delta sync position in a team's tasks ordered by (updated_at, task_id).
+ * Encoded as an opaque, URL-safe string for clients.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime updatedAt;
+    private final Long taskId;
+
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + taskId;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @return The cursor, or null if the value is blank (full sync).
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    public static ChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8
+            );
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new ChangeCursor(
+                LocalDateTime.parse(raw.substring(0, idx)),
+                Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
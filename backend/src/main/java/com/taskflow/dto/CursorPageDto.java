@@ -0,0 +1,22 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of results from a keyset-paginated listing.
+ * Pass nextCursor back as the 'cursor' parameter to fetch the next page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+    private String nextCursor; // null when there are no more results
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    private long row; // 1-based line number in the uploaded file
+    private String message;
+}
@@ -0,0 +1,44 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of an NDJSON task import.
+ * Same rules as CreateTaskRequest, except the team comes from the request
+ * and past due dates are allowed (imported history).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportTaskRow {
+
+    @NotBlank(message = "Title cannot be blank")
+    @Size(max = 255)
+    private String title;
+
+    private String description;
+
+    @NotNull(message = "Status cannot be null")
+    private TaskStatus status;
+
+    @NotNull(message = "Priority cannot be null")
+    private TaskPriority priority;
+
+    private LocalDateTime dueDate;
+
+    // Assignees can be referenced by id, by email, or both
+    private Set<Long> assigneeIds;
+
+    private Set<String> assigneeEmails;
+}
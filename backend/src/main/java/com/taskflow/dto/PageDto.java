@@ -0,0 +1,22 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of results from an offset-paginated listing (e.g. ranked search).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+
+    private List<T> items;
+    private int page; // 0-based
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,22 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single row in a bulk provisioning request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProvisionUserResult {
+
+    private int row; // 0-based index in the request
+    private String email;
+    private Long userId; // null unless created
+    private boolean success;
+    private String error; // null on success
+}
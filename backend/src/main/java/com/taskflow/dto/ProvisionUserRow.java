@@ -0,0 +1,34 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TeamRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One user in a bulk provisioning request; validated like RegisterRequest.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProvisionUserRow {
+
+    @NotBlank(message = "Name cannot be blank")
+    @Size(min = 2, max = 100)
+    private String name;
+
+    @NotBlank(message = "Email cannot be blank")
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotBlank(message = "Password cannot be blank")
+    @Size(min = 8, message = "Password must be at least 8 characters long")
+    private String password;
+
+    private TeamRole role; // Team role when added to the team; default ROLE_MEMBER
+}
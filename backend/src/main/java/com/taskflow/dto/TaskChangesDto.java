@@ -0,0 +1,23 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a team's task changes since a sync cursor.
+ * Clients upsert 'changed', drop 'removedTaskIds' and store 'nextCursor'.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDto {
+
+    private List<TaskDto> changed; // Created or updated, still visible
+    private List<Long> removedTaskIds; // Tombstones: archived since the cursor
+    private String nextCursor; // Pass as 'since' next time; null only before any change
+    private boolean hasMore; // True if another page is available right away
+}
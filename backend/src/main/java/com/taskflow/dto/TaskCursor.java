@@ -0,0 +1,58 @@
+package com.taskflow.dto;
+
+import com.taskflow.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Keyset position in a task listing ordered by (due_date, task_id).
+ * Encoded as an opaque, URL-safe string for clients.
+ * A null dueDate marks a position inside the leading "no due date" group
+ * (MySQL sorts NULLs first in ascending order).
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime dueDate;
+    private final Long taskId;
+
+    public String encode() {
+        String raw =
+            (dueDate == null ? "" : dueDate.toString()) + SEPARATOR + taskId;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @return The cursor, or null if the value is blank (first page).
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8
+            );
+            int idx = raw.lastIndexOf(SEPARATOR);
+            String dueDate = raw.substring(0, idx);
+            return new TaskCursor(
+                dueDate.isEmpty() ? null : LocalDateTime.parse(dueDate),
+                Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
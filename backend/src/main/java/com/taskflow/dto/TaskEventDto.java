@@ -0,0 +1,28 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskEventType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a task or team activity feed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+
+    private Long eventId;
+    private Long teamId;
+    private Long taskId;
+    private Long actorId;
+    private TaskEventType type;
+    private String field; // For UPDATED: title, description, status, priority, dueDate, assignees
+    private String oldValue;
+    private String newValue; // For COMMENTED: the comment id
+    private LocalDateTime createdAt;
+}
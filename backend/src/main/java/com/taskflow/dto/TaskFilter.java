@@ -0,0 +1,39 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Server-side filters for task listings, bound from query parameters.
+ * Null fields are not filtered on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    // e.g. ?status=TODO,IN_PROGRESS
+    private Set<TaskStatus> status;
+
+    private Set<TaskPriority> priority;
+
+    private Long assigneeId;
+
+    // Archived tasks are hidden unless explicitly requested
+    @Builder.Default
+    private Boolean archived = false;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom; // Inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo; // Exclusive
+}
@@ -0,0 +1,27 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a streaming task import.
+ * If 'completed' is false, re-send the same file with
+ * startRow = resumeFromRow to continue after the last committed chunk.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportSummary {
+
+    private long rowsRead; // Non-blank rows after startRow
+    private long imported;
+    private long failed;
+    private long resumeFromRow; // Number of leading rows already handled
+    private boolean completed;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated; // More errors occurred than are listed
+}
@@ -0,0 +1,26 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dashboard aggregates for a team's non-archived tasks.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStatsDto {
+
+    private Long teamId;
+    private long totalTasks;
+    private long overdueTasks; // Past due date and not DONE/ARCHIVED
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    private Map<Long, Long> byAssignee; // Assignee user id -> task count
+}
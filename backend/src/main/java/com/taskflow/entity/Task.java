@@ -66,6 +66,20 @@ public class Task {
     @Column(nullable = false)
     private boolean archived = false;
 
+    // Set when archived; TaskArchiver moves tasks to cold storage by age
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // Incremented in SQL by CommentService; never written from the entity
+    @Builder.Default
+    @Column(
+        name = "comments_count",
+        nullable = false,
+        insertable = false,
+        updatable = false
+    )
+    private int commentsCount = 0;
+
     // Relationship to assignees
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
@@ -0,0 +1,12 @@
+package com.taskflow.entity;
+
+/**
+ * Kinds of rows in the task_events activity log.
+ */
+public enum TaskEventType {
+    CREATED,
+    UPDATED, // One row per changed field
+    ARCHIVED,
+    RESTORED,
+    COMMENTED,
+}
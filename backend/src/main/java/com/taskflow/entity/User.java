@@ -74,6 +74,16 @@ public class User implements UserDetails {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Incremented in SQL on membership changes; never written from the entity
+    @Builder.Default
+    @Column(
+        name = "membership_version",
+        nullable = false,
+        insertable = false,
+        updatable = false
+    )
+    private long membershipVersion = 0;
+
     // --- Relationships ---
 
     // Teams this user is a member of (via UserTeam entity)
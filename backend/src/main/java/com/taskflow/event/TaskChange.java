@@ -0,0 +1,22 @@
+package com.taskflow.event;
+
+import lombok.Value;
+
+/**
+ * One task's state before and after a write.
+ * 'before' is null for created tasks.
+ */
+@Value
+public class TaskChange {
+
+    TaskSnapshot before;
+    TaskSnapshot after;
+
+    public static TaskChange created(TaskSnapshot after) {
+        return new TaskChange(null, after);
+    }
+
+    public boolean isCreated() {
+        return before == null;
+    }
+}
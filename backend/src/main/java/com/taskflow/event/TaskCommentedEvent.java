@@ -0,0 +1,15 @@
+package com.taskflow.event;
+
+import lombok.Value;
+
+/**
+ * Published inside the writing transaction when a comment is added to a task.
+ */
+@Value
+public class TaskCommentedEvent {
+
+    Long teamId;
+    Long taskId;
+    Long commentId;
+    Long actorId;
+}
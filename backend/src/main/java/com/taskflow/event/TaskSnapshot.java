@@ -0,0 +1,51 @@
+package com.taskflow.event;
+
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable copy of a task's user-visible fields at one point in time.
+ * Write paths capture one before and one after a change.
+ */
+@Value
+@Builder
+public class TaskSnapshot {
+
+    Long taskId;
+    Long teamId;
+    String title;
+    String description;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDateTime dueDate;
+    boolean archived;
+    Set<Long> assigneeIds;
+
+    public static TaskSnapshot of(Task task) {
+        Set<Long> assigneeIds = task.getAssignees() == null
+            ? Set.of()
+            : task
+                .getAssignees()
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        return TaskSnapshot.builder()
+            .taskId(task.getId())
+            .teamId(task.getTeam().getId())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .status(task.getStatus())
+            .priority(task.getPriority())
+            .dueDate(task.getDueDate())
+            .archived(task.isArchived())
+            .assigneeIds(assigneeIds)
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.event;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Published inside the writing transaction whenever tasks of a team are
+ * created or modified (single, bulk and import paths).
+ * Listeners that must see committed data use @TransactionalEventListener.
+ */
+@Value
+public class TasksChangedEvent {
+
+    Long teamId;
+    Long actorId;
+    List<TaskChange> changes;
+
+    public static TasksChangedEvent of(Long teamId, Long actorId, TaskChange change) {
+        return new TasksChangedEvent(teamId, actorId, List.of(change));
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.event;
+
+import lombok.Value;
+
+/**
+ * Published inside the writing transaction when a user joins or leaves a team.
+ */
+@Value
+public class TeamMembershipChangedEvent {
+
+    Long teamId;
+    Long userId;
+}
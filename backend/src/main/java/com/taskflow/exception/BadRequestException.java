@@ -0,0 +1,16 @@
+package com.taskflow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for 400 Bad Request errors.
+ * Used for malformed input that bean validation cannot catch (e.g. cursors).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
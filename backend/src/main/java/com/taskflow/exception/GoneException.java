@@ -0,0 +1,17 @@
+package com.taskflow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for 410 Gone errors.
+ * Thrown when a client's position can no longer be served, e.g. a delta sync
+ * cursor older than the tombstones kept; the client must start over.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class GoneException extends RuntimeException {
+
+    public GoneException(String message) {
+        super(message);
+    }
+}
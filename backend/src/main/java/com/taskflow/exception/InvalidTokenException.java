@@ -0,0 +1,16 @@
+package com.taskflow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for 401 Unauthorized errors on token endpoints
+ * (expired, malformed, revoked or reused refresh tokens).
+ */
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
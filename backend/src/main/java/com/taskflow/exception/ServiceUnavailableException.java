@@ -0,0 +1,17 @@
+package com.taskflow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for 503 Service Unavailable errors.
+ * Thrown when a bounded resource (e.g. password hashing) is saturated;
+ * clients should retry after a short delay.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for 429 Too Many Requests errors.
+ * Thrown when a per-user budget (e.g. bulk provisioning rows) is used up.
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskflow.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access for the due-date reminder scheduler: the due-date index scan
+ * over tasks and reminder claims in due_date_reminders.
+ * The scheduler's lease and watermark are in SchedulerLeaseRepository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DueReminderRepository {
+
+    // Walks idx_task_due_date in (due_date, task_id) order
+    private static final String SELECT_UPCOMING_SQL =
+        "SELECT task_id, due_date FROM tasks " +
+        "WHERE (due_date > ? OR (due_date = ? AND task_id > ?)) AND due_date <= ? " +
+        "AND archived = FALSE AND status NOT IN ('DONE', 'ARCHIVED') " +
+        "ORDER BY due_date, task_id LIMIT ?";
+
+    private static final String CLAIM_SQL =
+        "INSERT IGNORE INTO due_date_reminders (task_id, due_date, claim_token) " +
+        "VALUES (?, ?, ?)";
+
+    private static final String SELECT_CLAIMED_SQL =
+        "SELECT task_id FROM due_date_reminders " +
+        "WHERE claim_token = :token AND task_id IN (:taskIds)";
+
+    private static final String PURGE_CLAIMS_SQL =
+        "DELETE FROM due_date_reminders WHERE due_date < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Next slice of open tasks after (afterDue, afterId) and due by 'until'.
+     */
+    public List<DueTask> findUpcoming(
+        LocalDateTime afterDue,
+        long afterId,
+        LocalDateTime until,
+        int limit
+    ) {
+        Timestamp after = Timestamp.valueOf(afterDue);
+        return jdbcTemplate.query(
+            SELECT_UPCOMING_SQL,
+            (rs, rowNum) ->
+                new DueTask(
+                    rs.getLong("task_id"),
+                    rs.getTimestamp("due_date").toLocalDateTime()
+                ),
+            after,
+            after,
+            afterId,
+            Timestamp.valueOf(until),
+            limit
+        );
+    }
+
+    /**
+     * Claims reminders with INSERT IGNORE; a (task, due date) pair that was
+     * already claimed by any node or earlier run is left alone.
+     * The unique token identifies this batch's rows afterwards, which works
+     * even when the driver rewrites the batch and hides per-row counts.
+     *
+     * @return Ids of the tasks this call claimed.
+     */
+    public List<Long> claim(Collection<DueTask> reminders, String token) {
+        if (reminders.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> args = new ArrayList<>(reminders.size());
+        List<Long> taskIds = new ArrayList<>(reminders.size());
+        for (DueTask reminder : reminders) {
+            args.add(
+                new Object[] {
+                    reminder.getTaskId(),
+                    Timestamp.valueOf(reminder.getDueDate()),
+                    token,
+                }
+            );
+            taskIds.add(reminder.getTaskId());
+        }
+        jdbcTemplate.batchUpdate(CLAIM_SQL, args);
+        return namedParameterJdbcTemplate.queryForList(
+            SELECT_CLAIMED_SQL,
+            new MapSqlParameterSource(
+                Map.of("token", token, "taskIds", taskIds)
+            ),
+            Long.class
+        );
+    }
+
+    /**
+     * Deletes up to 'limit' claims for deadlines before 'dueBefore'.
+     */
+    public int purgeClaims(LocalDateTime dueBefore, int limit) {
+        return jdbcTemplate.update(
+            PURGE_CLAIMS_SQL,
+            Timestamp.valueOf(dueBefore),
+            limit
+        );
+    }
+
+    /**
+     * A task and the deadline a reminder is scheduled for.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DueTask {
+
+        private final Long taskId;
+        private final LocalDateTime dueDate;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Notification;
+import java.sql.Types;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch writer for notifications.
+ * Hibernate cannot batch inserts for IDENTITY ids, so bulk paths
+ * insert notifications through JdbcTemplate instead. Joins the
+ * surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notifications (user_id, type, message, is_read, task_id) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts notifications in JDBC batches. Generated ids are not read back.
+     */
+    public void insertAll(Collection<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            INSERT_SQL,
+            notifications,
+            BATCH_SIZE,
+            (ps, notification) -> {
+                ps.setLong(1, notification.getUser().getId());
+                ps.setString(2, notification.getType().name());
+                ps.setString(3, notification.getMessage());
+                ps.setBoolean(4, notification.isRead());
+                if (notification.getTaskId() == null) {
+                    ps.setNull(5, Types.BIGINT);
+                } else {
+                    ps.setLong(5, notification.getTaskId());
+                }
+            }
+        );
+    }
+}
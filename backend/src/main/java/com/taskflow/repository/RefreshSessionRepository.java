@@ -0,0 +1,125 @@
+package com.taskflow.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to refresh_sessions. Every lookup is by primary key; the
+ * expires_at index only serves the purge.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshSessionRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO refresh_sessions (user_id, token_hash, expires_at) " +
+        "VALUES (?, ?, ?)";
+
+    private static final String SELECT_SQL =
+        "SELECT session_id, user_id, token_hash, expires_at " +
+        "FROM refresh_sessions WHERE session_id = ?";
+
+    // Compare-and-set: only the holder of the current token can rotate it
+    private static final String ROTATE_SQL =
+        "UPDATE refresh_sessions SET token_hash = ?, expires_at = ? " +
+        "WHERE session_id = ? AND token_hash = ?";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM refresh_sessions WHERE session_id = ?";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM refresh_sessions WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return The new session's id.
+     */
+    public long insert(Long userId, byte[] tokenHash, LocalDateTime expiresAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                    INSERT_SQL,
+                    Statement.RETURN_GENERATED_KEYS
+                );
+                ps.setLong(1, userId);
+                ps.setBytes(2, tokenHash);
+                ps.setTimestamp(3, Timestamp.valueOf(expiresAt));
+                return ps;
+            },
+            keyHolder
+        );
+        return keyHolder.getKey().longValue();
+    }
+
+    public Optional<RefreshSession> findById(long sessionId) {
+        List<RefreshSession> rows = jdbcTemplate.query(
+            SELECT_SQL,
+            (rs, rowNum) ->
+                new RefreshSession(
+                    rs.getLong("session_id"),
+                    rs.getLong("user_id"),
+                    rs.getBytes("token_hash"),
+                    rs.getTimestamp("expires_at").toLocalDateTime()
+                ),
+            sessionId
+        );
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Replaces the token hash if it still equals 'expectedHash'.
+     *
+     * @return False if another refresh rotated the session first.
+     */
+    public boolean rotate(
+        long sessionId,
+        byte[] expectedHash,
+        byte[] newHash,
+        LocalDateTime expiresAt
+    ) {
+        return jdbcTemplate.update(
+            ROTATE_SQL,
+            newHash,
+            Timestamp.valueOf(expiresAt),
+            sessionId,
+            expectedHash
+        ) == 1;
+    }
+
+    public void delete(long sessionId) {
+        jdbcTemplate.update(DELETE_SQL, sessionId);
+    }
+
+    /**
+     * Deletes up to 'limit' sessions that expired before 'now'.
+     */
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * A row of refresh_sessions.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RefreshSession {
+
+        private final long sessionId;
+        private final long userId;
+        private final byte[] tokenHash;
+        private final LocalDateTime expiresAt;
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskflow.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to revoked_tokens.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    // Revoking twice (e.g. a retried logout) is a no-op
+    private static final String INSERT_SQL =
+        "INSERT IGNORE INTO revoked_tokens (token_id, user_id, expires_at) " +
+        "VALUES (?, ?, ?)";
+
+    private static final String EXISTS_SQL =
+        "SELECT COUNT(*) FROM revoked_tokens WHERE token_id = ? AND expires_at > ?";
+
+    private static final String SELECT_ACTIVE_SQL =
+        "SELECT revocation_id, token_id FROM revoked_tokens WHERE expires_at > ?";
+
+    // New ids, plus a window of recent rows whose lower ids committed late
+    private static final String SELECT_SINCE_SQL =
+        "SELECT revocation_id, token_id FROM revoked_tokens " +
+        "WHERE revocation_id > ? " +
+        "UNION " +
+        "SELECT revocation_id, token_id FROM revoked_tokens WHERE revoked_at >= ?";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM revoked_tokens WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String tokenId, Long userId, LocalDateTime expiresAt) {
+        jdbcTemplate.update(INSERT_SQL, tokenId, userId, Timestamp.valueOf(expiresAt));
+    }
+
+    /**
+     * Exact check, used to confirm a Bloom filter "maybe".
+     */
+    public boolean isRevoked(String tokenId, LocalDateTime now) {
+        Integer count = jdbcTemplate.queryForObject(
+            EXISTS_SQL,
+            Integer.class,
+            tokenId,
+            Timestamp.valueOf(now)
+        );
+        return count != null && count > 0;
+    }
+
+    /**
+     * Streams every revocation whose token has not expired yet.
+     */
+    public void forEachActive(LocalDateTime now, Consumer<RevokedToken> consumer) {
+        jdbcTemplate.query(
+            SELECT_ACTIVE_SQL,
+            rs -> {
+                consumer.accept(
+                    new RevokedToken(rs.getLong("revocation_id"), rs.getString("token_id"))
+                );
+            },
+            Timestamp.valueOf(now)
+        );
+    }
+
+    /**
+     * Revocations with an id above 'afterId' or revoked since 'revokedSince'.
+     */
+    public List<RevokedToken> findSince(long afterId, LocalDateTime revokedSince) {
+        return jdbcTemplate.query(
+            SELECT_SINCE_SQL,
+            (rs, rowNum) ->
+                new RevokedToken(rs.getLong("revocation_id"), rs.getString("token_id")),
+            afterId,
+            Timestamp.valueOf(revokedSince)
+        );
+    }
+
+    /**
+     * Deletes up to 'limit' revocations of tokens that expired before 'now'.
+     */
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * A row of revoked_tokens.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RevokedToken {
+
+        private final long revocationId;
+        private final String tokenId;
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access for scheduler_leases: one row per cluster-wide scheduled job,
+ * holding the node that currently runs it and an optional watermark.
+ * Used by DueDateReminderScheduler and CommentCountReconciler.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepository {
+
+    // Lease times use the database clock so nodes need not agree on theirs
+    private static final String ACQUIRE_LEASE_SQL =
+        "UPDATE scheduler_leases " +
+        "SET owner = ?, lease_until = NOW() + INTERVAL ? SECOND " +
+        "WHERE name = ? AND (owner = ? OR owner IS NULL OR lease_until < NOW())";
+
+    private static final String SELECT_WATERMARK_SQL =
+        "SELECT watermark FROM scheduler_leases WHERE name = ?";
+
+    private static final String UPDATE_WATERMARK_SQL =
+        "UPDATE scheduler_leases SET watermark = ? WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes or renews the named lease.
+     *
+     * @return True if this owner holds the lease for the next 'ttl'.
+     */
+    public boolean tryAcquireLease(String name, String owner, Duration ttl) {
+        return jdbcTemplate.update(
+            ACQUIRE_LEASE_SQL,
+            owner,
+            Math.max(ttl.toSeconds(), 1),
+            name,
+            owner
+        ) == 1;
+    }
+
+    public LocalDateTime findWatermark(String name) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+            SELECT_WATERMARK_SQL,
+            Timestamp.class,
+            name
+        );
+        return rows.isEmpty() || rows.get(0) == null
+            ? null
+            : rows.get(0).toLocalDateTime();
+    }
+
+    /**
+     * Saves the watermark only while 'owner' still holds the lease.
+     */
+    public void saveWatermark(String name, String owner, LocalDateTime watermark) {
+        jdbcTemplate.update(
+            UPDATE_WATERMARK_SQL,
+            Timestamp.valueOf(watermark),
+            name,
+            owner
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.Team;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the cold-storage tables (archived_tasks,
+ * archived_task_assignees, archived_comments).
+ * Reads return detached entities so the regular DTO mappers can be reused;
+ * they must never be passed to JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+
+    private static final String TASK_COLUMNS =
+        "task_id, team_id, title, description, status, priority, due_date, " +
+        "created_by, created_at, updated_at, comments_count, archived_at";
+
+    // Locks the chunk so a concurrent un-archive waits for the move to finish
+    private static final String SELECT_CHUNK_SQL =
+        "SELECT task_id, team_id FROM tasks " +
+        "WHERE archived = TRUE AND archived_at < ? " +
+        "ORDER BY archived_at, task_id LIMIT ? FOR UPDATE";
+
+    private static final String COPY_TASKS_SQL =
+        "INSERT INTO archived_tasks (" + TASK_COLUMNS + ") " +
+        "SELECT " + TASK_COLUMNS + " FROM tasks WHERE task_id IN (:taskIds)";
+
+    private static final String COPY_ASSIGNEES_SQL =
+        "INSERT INTO archived_task_assignees (task_id, user_id) " +
+        "SELECT task_id, user_id FROM task_assignees WHERE task_id IN (:taskIds)";
+
+    private static final String COPY_COMMENTS_SQL =
+        "INSERT INTO archived_comments (comment_id, task_id, user_id, text, created_at) " +
+        "SELECT comment_id, task_id, user_id, text, created_at FROM comments " +
+        "WHERE task_id IN (:taskIds)";
+
+    // Children first, in foreign key order
+    private static final List<String> DELETE_HOT_SQL = List.of(
+        "DELETE FROM comments WHERE task_id IN (:taskIds)",
+        "DELETE FROM task_assignees WHERE task_id IN (:taskIds)",
+        "DELETE FROM tasks WHERE task_id IN (:taskIds)"
+    );
+
+    private static final String SELECT_TEAM_ID_SQL =
+        "SELECT team_id FROM archived_tasks WHERE task_id = ?";
+
+    private static final String USER_COLUMNS =
+        "u.user_id, u.name, u.email, u.status, u.avatar_url, u.created_at";
+
+    private static final String SELECT_TASK_SQL =
+        "SELECT t.task_id, t.team_id, t.title, t.description, t.status, t.priority, " +
+        "t.due_date, t.created_at AS task_created_at, t.updated_at, t.comments_count, " +
+        "t.archived_at, " + USER_COLUMNS + " " +
+        "FROM archived_tasks t JOIN users u ON u.user_id = t.created_by " +
+        "WHERE t.task_id = ?";
+
+    private static final String SELECT_ASSIGNEES_SQL =
+        "SELECT " + USER_COLUMNS + " FROM archived_task_assignees a " +
+        "JOIN users u ON u.user_id = a.user_id WHERE a.task_id = ?";
+
+    private static final String SELECT_COMMENTS_SQL =
+        "SELECT c.comment_id, c.text, c.created_at AS comment_created_at, " +
+        USER_COLUMNS + " " +
+        "FROM archived_comments c JOIN users u ON u.user_id = c.user_id " +
+        "WHERE c.task_id = ? ORDER BY c.created_at, c.comment_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Moves up to 'limit' tasks archived before 'archivedBefore', with their
+     * assignee rows and comments, into cold storage.
+     * Must run in a transaction: copy and delete commit together.
+     *
+     * @return The moved tasks, empty when nothing is left to move.
+     */
+    public List<MovedTask> moveChunk(LocalDateTime archivedBefore, int limit) {
+        List<MovedTask> chunk = jdbcTemplate.query(
+            SELECT_CHUNK_SQL,
+            (rs, rowNum) ->
+                new MovedTask(rs.getLong("task_id"), rs.getLong("team_id")),
+            Timestamp.valueOf(archivedBefore),
+            limit
+        );
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+
+        Map<String, Object> params = Map.of(
+            "taskIds",
+            chunk.stream().map(MovedTask::getTaskId).toList()
+        );
+        namedParameterJdbcTemplate.update(COPY_TASKS_SQL, params);
+        namedParameterJdbcTemplate.update(COPY_ASSIGNEES_SQL, params);
+        namedParameterJdbcTemplate.update(COPY_COMMENTS_SQL, params);
+        for (String sql : DELETE_HOT_SQL) {
+            namedParameterJdbcTemplate.update(sql, params);
+        }
+        return chunk;
+    }
+
+    public Optional<Long> findTeamId(Long taskId) {
+        return jdbcTemplate
+            .queryForList(SELECT_TEAM_ID_SQL, Long.class, taskId)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Loads an archived task with its creator and assignees (two queries).
+     */
+    public Optional<Task> findTask(Long taskId) {
+        List<Task> tasks = jdbcTemplate.query(
+            SELECT_TASK_SQL,
+            (rs, rowNum) ->
+                Task.builder()
+                    .id(rs.getLong("task_id"))
+                    .team(Team.builder().id(rs.getLong("team_id")).build())
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .status(TaskStatus.valueOf(rs.getString("status")))
+                    .priority(TaskPriority.valueOf(rs.getString("priority")))
+                    .dueDate(toLocalDateTime(rs.getTimestamp("due_date")))
+                    .createdBy(mapUser(rs))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("task_created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .commentsCount(rs.getInt("comments_count"))
+                    .archived(true)
+                    .archivedAt(toLocalDateTime(rs.getTimestamp("archived_at")))
+                    .build(),
+            taskId
+        );
+        if (tasks.isEmpty()) {
+            return Optional.empty();
+        }
+        Task task = tasks.get(0);
+        task.setAssignees(
+            new HashSet<>(
+                jdbcTemplate.query(
+                    SELECT_ASSIGNEES_SQL,
+                    (rs, rowNum) -> mapUser(rs),
+                    taskId
+                )
+            )
+        );
+        return Optional.of(task);
+    }
+
+    /**
+     * Loads an archived task's comments, oldest first.
+     */
+    public List<Comment> findComments(Long taskId) {
+        Task task = Task.builder().id(taskId).build();
+        return jdbcTemplate.query(
+            SELECT_COMMENTS_SQL,
+            (rs, rowNum) ->
+                Comment.builder()
+                    .id(rs.getLong("comment_id"))
+                    .task(task)
+                    .user(mapUser(rs))
+                    .text(rs.getString("text"))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("comment_created_at")))
+                    .build(),
+            taskId
+        );
+    }
+
+    private User mapUser(ResultSet rs) throws SQLException {
+        return User.builder()
+            .id(rs.getLong("user_id"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .status(UserStatus.valueOf(rs.getString("status")))
+            .avatarUrl(rs.getString("avatar_url"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * A task moved to cold storage, with its team for cache/version upkeep.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MovedTask {
+
+        private final Long taskId;
+        private final Long teamId;
+    }
+}
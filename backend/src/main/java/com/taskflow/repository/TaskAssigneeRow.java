@@ -0,0 +1,24 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.UserStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Flat (task, assignee) row produced by a JPQL constructor expression.
+ * Lets a whole page of assignees be loaded in one query without
+ * hydrating User entities and their lazy collections.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskAssigneeRow {
+
+    private final Long taskId;
+    private final Long userId;
+    private final String name;
+    private final String email;
+    private final UserStatus status;
+    private final String avatarUrl;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,95 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch writer for bulk task inserts (e.g. imports).
+ * Hibernate cannot batch IDENTITY inserts, so rows are sent as one JDBC
+ * batch and the generated ids are read back in insertion order.
+ * Joins the surrounding transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBatchRepository {
+
+    private static final String INSERT_TASK_SQL =
+        "INSERT INTO tasks " +
+        "(team_id, title, description, status, priority, due_date, created_by, archived) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ASSIGNEE_SQL =
+        "INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts unsaved tasks and their assignee rows in two JDBC batches.
+     * The generated ids are set on the given Task objects.
+     */
+    public void insertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.execute(
+            (ConnectionCallback<List<Long>>) connection -> {
+                try (
+                    PreparedStatement ps = connection.prepareStatement(
+                        INSERT_TASK_SQL,
+                        Statement.RETURN_GENERATED_KEYS
+                    )
+                ) {
+                    for (Task task : tasks) {
+                        ps.setLong(1, task.getTeam().getId());
+                        ps.setString(2, task.getTitle());
+                        ps.setString(3, task.getDescription());
+                        ps.setString(4, task.getStatus().name());
+                        ps.setString(5, task.getPriority().name());
+                        if (task.getDueDate() == null) {
+                            ps.setNull(6, Types.TIMESTAMP);
+                        } else {
+                            ps.setTimestamp(6, Timestamp.valueOf(task.getDueDate()));
+                        }
+                        ps.setLong(7, task.getCreatedBy().getId());
+                        ps.setBoolean(8, task.isArchived());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> generatedIds = new ArrayList<>(tasks.size());
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generatedIds.add(keys.getLong(1));
+                        }
+                    }
+                    return generatedIds;
+                }
+            }
+        );
+
+        List<Object[]> assigneeRows = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(ids.get(i));
+            if (task.getAssignees() != null) {
+                for (User assignee : task.getAssignees()) {
+                    assigneeRows.add(new Object[] { task.getId(), assignee.getId() });
+                }
+            }
+        }
+        if (!assigneeRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ASSIGNEE_SQL, assigneeRows);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.TaskEventDto;
+import com.taskflow.entity.TaskEventType;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the append-only task_events table.
+ * Rows are only ever inserted (in JDBC batches) and read newest first.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskEventRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO task_events " +
+        "(team_id, task_id, actor_id, event_type, field, old_value, new_value) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String COLUMNS =
+        "event_id, team_id, task_id, actor_id, event_type, field, old_value, " +
+        "new_value, created_at";
+
+    // Range scans on idx_task_event_team / idx_task_event_task, newest first
+    private static final String SELECT_BY_TEAM_SQL =
+        "SELECT " + COLUMNS + " FROM task_events " +
+        "WHERE team_id = ? AND event_id < ? ORDER BY event_id DESC LIMIT ?";
+
+    private static final String SELECT_BY_TASK_SQL =
+        "SELECT " + COLUMNS + " FROM task_events " +
+        "WHERE task_id = ? AND event_id < ? ORDER BY event_id DESC LIMIT ?";
+
+    private static final RowMapper<TaskEventDto> ROW_MAPPER = (rs, rowNum) ->
+        TaskEventDto.builder()
+            .eventId(rs.getLong("event_id"))
+            .teamId(rs.getLong("team_id"))
+            .taskId(rs.getLong("task_id"))
+            .actorId(rs.getObject("actor_id", Long.class))
+            .type(TaskEventType.valueOf(rs.getString("event_type")))
+            .field(rs.getString("field"))
+            .oldValue(rs.getString("old_value"))
+            .newValue(rs.getString("new_value"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends events with JDBC batching. Runs in the caller's transaction.
+     */
+    public void insertAll(List<TaskEventDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setLong(1, event.getTeamId());
+            ps.setLong(2, event.getTaskId());
+            if (event.getActorId() == null) {
+                ps.setNull(3, Types.BIGINT);
+            } else {
+                ps.setLong(3, event.getActorId());
+            }
+            ps.setString(4, event.getType().name());
+            ps.setString(5, event.getField());
+            ps.setString(6, event.getOldValue());
+            ps.setString(7, event.getNewValue());
+        });
+    }
+
+    /**
+     * @param beforeEventId Exclusive upper bound; Long.MAX_VALUE for the newest page.
+     */
+    public List<TaskEventDto> findByTeam(Long teamId, long beforeEventId, int limit) {
+        return jdbcTemplate.query(
+            SELECT_BY_TEAM_SQL,
+            ROW_MAPPER,
+            teamId,
+            beforeEventId,
+            limit
+        );
+    }
+
+    /**
+     * @param beforeEventId Exclusive upper bound; Long.MAX_VALUE for the newest page.
+     */
+    public List<TaskEventDto> findByTask(Long taskId, long beforeEventId, int limit) {
+        return jdbcTemplate.query(
+            SELECT_BY_TASK_SQL,
+            ROW_MAPPER,
+            taskId,
+            beforeEventId,
+            limit
+        );
+    }
+}
@@ -3,8 +3,12 @@ package com.taskflow.repository;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskStatus;
 import com.taskflow.entity.User;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +16,8 @@ import org.springframework.stereotype.Repository;
  * Spring Data JPA repository for the Task entity.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository
+    extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     /**
      * Finds all tasks for a specific team, ordered by due date.
      */
@@ -24,11 +29,114 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t JOIN t.assignees a WHERE a.id = :userId")
     List<Task> findByAssigneeId(Long userId);
 
+    /**
+     * Loads a batch of tasks with their creator and assignees in one query.
+     */
+    @EntityGraph(attributePaths = { "createdBy", "assignees" })
+    List<Task> findWithAssigneesByIdIn(Collection<Long> taskIds);
+
+    /**
+     * Loads a batch of tasks with their creator fetched.
+     */
+    @EntityGraph(attributePaths = { "createdBy" })
+    List<Task> findWithCreatorByIdIn(Collection<Long> taskIds);
+
+    /**
+     * Ranked full-text search over title and description (ft_task_title_description),
+     * limited to non-archived tasks in the given teams.
+     */
+    @Query(
+        value = "SELECT t.task_id AS taskId, " +
+        "MATCH(t.title, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+        "FROM tasks t " +
+        "WHERE MATCH(t.title, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+        "AND t.team_id IN (:teamIds) AND t.archived = FALSE " +
+        "ORDER BY score DESC, t.task_id DESC " +
+        "LIMIT :limit OFFSET :offset",
+        nativeQuery = true
+    )
+    List<TaskSearchHit> searchByText(
+        String query,
+        Collection<Long> teamIds,
+        int limit,
+        int offset
+    );
+
+    /**
+     * Projection for full-text search hits.
+     */
+    interface TaskSearchHit {
+        Long getTaskId();
+
+        Double getScore();
+    }
+
+    /**
+     * Loads the assignees of a batch of tasks in a single query.
+     */
+    @Query(
+        "SELECT new com.taskflow.repository.TaskAssigneeRow(" +
+        "t.id, a.id, a.name, a.email, a.status, a.avatarUrl, a.createdAt) " +
+        "FROM Task t JOIN t.assignees a WHERE t.id IN :taskIds"
+    )
+    List<TaskAssigneeRow> findAssigneeRowsByTaskIds(Collection<Long> taskIds);
+
     /**
      * Finds tasks for a team, filtered by status.
      */
     List<Task> findByTeamIdAndStatus(Long teamId, TaskStatus status);
 
+    /**
+     * Atomically increments a task's denormalized comment counter.
+     * Must run in the same transaction as the comment insert.
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE tasks SET comments_count = comments_count + 1 " +
+        "WHERE task_id = :taskId",
+        nativeQuery = true
+    )
+    int incrementCommentsCount(Long taskId);
+
+    /**
+     * Recomputes comments_count for a range of task ids, touching only
+     * rows that drifted.
+     *
+     * @return The number of repaired tasks.
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE tasks t " +
+        "SET t.comments_count = " +
+        "(SELECT COUNT(*) FROM comments c WHERE c.task_id = t.task_id) " +
+        "WHERE t.task_id BETWEEN :fromId AND :toId " +
+        "AND t.comments_count <> " +
+        "(SELECT COUNT(*) FROM comments c WHERE c.task_id = t.task_id)",
+        nativeQuery = true
+    )
+    int reconcileCommentsCount(Long fromId, Long toId);
+
+    /**
+     * Teams with drifted comments_count in a range of task ids. Locks the
+     * drifted rows, so a following reconcileCommentsCount in the same
+     * transaction repairs exactly these teams.
+     */
+    @Query(
+        value = "SELECT DISTINCT t.team_id FROM tasks t " +
+        "WHERE t.task_id BETWEEN :fromId AND :toId " +
+        "AND t.comments_count <> " +
+        "(SELECT COUNT(*) FROM comments c WHERE c.task_id = t.task_id) " +
+        "FOR UPDATE",
+        nativeQuery = true
+    )
+    List<Long> findTeamIdsWithCommentsCountDrift(Long fromId, Long toId);
+
+    @Query("SELECT MAX(t.id) FROM Task t")
+    Long findMaxId();
+
+    @Query("SELECT t.team.id FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findTeamIdById(Long taskId);
+
     // Spring Data JPA will automatically parse method names to create queries
     // e.g., findByPriorityAndStatus, findByDueDateBefore, etc.
 }
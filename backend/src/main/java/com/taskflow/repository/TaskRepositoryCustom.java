@@ -0,0 +1,63 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.ChangeCursor;
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.entity.Task;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom query methods for tasks that Spring Data cannot derive,
+ * implemented with the Criteria API in {@link TaskRepositoryImpl}.
+ */
+public interface TaskRepositoryCustom {
+    /**
+     * Fetches one keyset page of a team's tasks ordered by (due_date, task_id).
+     * The creator is fetch-joined; assignees are left for a batched query.
+     *
+     * @param teamId The team to list.
+     * @param filter Optional filters (status, priority, assignee, ...).
+     * @param after  The position to continue after, or null for the first page.
+     * @param limit  Maximum number of tasks to return.
+     */
+    List<Task> findTeamTasksPage(
+        Long teamId,
+        TaskFilter filter,
+        TaskCursor after,
+        int limit
+    );
+
+    /**
+     * Fetches one keyset page of the tasks assigned to a user across all the
+     * teams they belong to, ordered by (due_date, task_id).
+     * The filter's assigneeId must be null; the creator is fetch-joined.
+     *
+     * @param userId The assignee.
+     * @param filter Optional filters (status, priority, archived, due range).
+     * @param after  The position to continue after, or null for the first page.
+     * @param limit  Maximum number of tasks to return.
+     */
+    List<Task> findAssignedTasksPage(
+        Long userId,
+        TaskFilter filter,
+        TaskCursor after,
+        int limit
+    );
+
+    /**
+     * Fetches a team's tasks (archived included) changed after a sync
+     * position, ordered by (updated_at, task_id). The creator is fetch-joined.
+     *
+     * @param teamId The team to sync.
+     * @param after  The position to continue after, or null for a full sync.
+     * @param before Exclusive upper bound on updated_at.
+     * @param limit  Maximum number of tasks to return.
+     */
+    List<Task> findTeamTaskChanges(
+        Long teamId,
+        ChangeCursor after,
+        LocalDateTime before,
+        int limit
+    );
+}
@@ -0,0 +1,204 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.ChangeCursor;
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserTeam;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link TaskRepositoryCustom}.
+ * Picked up by Spring Data through the "Impl" naming convention.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findTeamTasksPage(
+        Long teamId,
+        TaskFilter filter,
+        TaskCursor after,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        // The creator is needed for every DTO; assignees are batch-loaded separately
+        task.fetch("createdBy", JoinType.INNER);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("team").get("id"), teamId));
+        predicates.addAll(filterPredicates(cb, task, filter));
+        if (after != null) {
+            predicates.add(keysetPredicate(cb, task, after));
+        }
+
+        // Matches idx_task_team_archived_due, so MySQL walks the index in order
+        query
+            .select(task)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.asc(task.get("dueDate")), cb.asc(task.get("id")));
+
+        return entityManager
+            .createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<Task> findAssignedTasksPage(
+        Long userId,
+        TaskFilter filter,
+        TaskCursor after,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("createdBy", JoinType.INNER);
+        // Driven from task_assignees through idx_assignee_user
+        Join<Task, User> assignee = task.join("assignees");
+
+        // Only teams the user still belongs to
+        Subquery<Long> memberTeams = query.subquery(Long.class);
+        Root<UserTeam> membership = memberTeams.from(UserTeam.class);
+        memberTeams
+            .select(membership.get("team").get("id"))
+            .where(cb.equal(membership.get("user").get("id"), userId));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(assignee.get("id"), userId));
+        predicates.add(task.get("team").get("id").in(memberTeams));
+        predicates.addAll(filterPredicates(cb, task, filter));
+        if (after != null) {
+            predicates.add(keysetPredicate(cb, task, after));
+        }
+
+        query
+            .select(task)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.asc(task.get("dueDate")), cb.asc(task.get("id")));
+
+        return entityManager
+            .createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<Task> findTeamTaskChanges(
+        Long teamId,
+        ChangeCursor after,
+        LocalDateTime before,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("createdBy", JoinType.INNER);
+
+        Path<LocalDateTime> updatedAt = task.get("updatedAt");
+        Path<Long> id = task.get("id");
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("team").get("id"), teamId));
+        predicates.add(cb.lessThan(updatedAt, before));
+        if (after != null) {
+            predicates.add(
+                cb.or(
+                    cb.greaterThan(updatedAt, after.getUpdatedAt()),
+                    cb.and(
+                        cb.equal(updatedAt, after.getUpdatedAt()),
+                        cb.greaterThan(id, after.getTaskId())
+                    )
+                )
+            );
+        }
+
+        // Matches idx_task_team_updated, so MySQL walks the index in order
+        query
+            .select(task)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.asc(updatedAt), cb.asc(id));
+
+        return entityManager
+            .createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private List<Predicate> filterPredicates(
+        CriteriaBuilder cb,
+        Root<Task> task,
+        TaskFilter filter
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.getArchived() != null) {
+            predicates.add(cb.equal(task.get("archived"), filter.getArchived()));
+        }
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            predicates.add(task.get("status").in(filter.getStatus()));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            predicates.add(task.get("priority").in(filter.getPriority()));
+        }
+        if (filter.getAssigneeId() != null) {
+            Join<Task, User> assignee = task.join("assignees");
+            predicates.add(cb.equal(assignee.get("id"), filter.getAssigneeId()));
+        }
+        if (filter.getDueFrom() != null) {
+            predicates.add(
+                cb.greaterThanOrEqualTo(task.get("dueDate"), filter.getDueFrom())
+            );
+        }
+        if (filter.getDueTo() != null) {
+            predicates.add(cb.lessThan(task.get("dueDate"), filter.getDueTo()));
+        }
+        return predicates;
+    }
+
+    /**
+     * Builds "(due_date, task_id) > cursor" under MySQL's NULLS FIRST ordering.
+     */
+    private Predicate keysetPredicate(
+        CriteriaBuilder cb,
+        Root<Task> task,
+        TaskCursor after
+    ) {
+        Path<LocalDateTime> dueDate = task.get("dueDate");
+        Path<Long> id = task.get("id");
+
+        if (after.getDueDate() == null) {
+            // Still inside the NULL group: later NULL rows, then every dated row
+            return cb.or(
+                cb.and(cb.isNull(dueDate), cb.greaterThan(id, after.getTaskId())),
+                cb.isNotNull(dueDate)
+            );
+        }
+        return cb.or(
+            cb.greaterThan(dueDate, after.getDueDate()),
+            cb.and(
+                cb.equal(dueDate, after.getDueDate()),
+                cb.greaterThan(id, after.getTaskId())
+            )
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the team_task_counters table.
+ * Counters are adjusted with batched upserts and read with one
+ * primary-key range scan per team.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamTaskCounterRepository {
+
+    public static final String TOTAL = "TOTAL";
+    public static final String STATUS = "STATUS";
+    public static final String PRIORITY = "PRIORITY";
+    public static final String ASSIGNEE = "ASSIGNEE";
+    public static final String ALL = "ALL";
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO team_task_counters (team_id, dimension, bucket, task_count) " +
+        "VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE task_count = task_count + ?";
+
+    private static final String SELECT_SQL =
+        "SELECT dimension, bucket, task_count FROM team_task_counters " +
+        "WHERE team_id = ?";
+
+    private static final String OVERDUE_SQL =
+        "SELECT COUNT(*) FROM tasks " +
+        "WHERE team_id = ? AND archived = FALSE AND due_date < NOW() " +
+        "AND status NOT IN ('DONE', 'ARCHIVED')";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM team_task_counters WHERE team_id = ?";
+
+    private static final List<String> REBUILD_SQL = List.of(
+        "INSERT INTO team_task_counters (team_id, dimension, bucket, task_count) " +
+        "SELECT team_id, 'TOTAL', 'ALL', COUNT(*) FROM tasks " +
+        "WHERE team_id = ? AND archived = FALSE GROUP BY team_id",
+        "INSERT INTO team_task_counters (team_id, dimension, bucket, task_count) " +
+        "SELECT team_id, 'STATUS', status, COUNT(*) FROM tasks " +
+        "WHERE team_id = ? AND archived = FALSE GROUP BY team_id, status",
+        "INSERT INTO team_task_counters (team_id, dimension, bucket, task_count) " +
+        "SELECT team_id, 'PRIORITY', priority, COUNT(*) FROM tasks " +
+        "WHERE team_id = ? AND archived = FALSE GROUP BY team_id, priority",
+        "INSERT INTO team_task_counters (team_id, dimension, bucket, task_count) " +
+        "SELECT t.team_id, 'ASSIGNEE', CAST(ta.user_id AS CHAR), COUNT(*) " +
+        "FROM tasks t JOIN task_assignees ta ON ta.task_id = t.task_id " +
+        "WHERE t.team_id = ? AND t.archived = FALSE GROUP BY t.team_id, ta.user_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies counter deltas for one team in a single JDBC batch.
+     * Keys are applied in sorted order to keep lock order stable across writers.
+     *
+     * @param deltas (dimension, bucket) -> delta, ideally a sorted map.
+     */
+    public void applyDeltas(Long teamId, Map<CounterKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            UPSERT_SQL,
+            deltas
+                .entrySet()
+                .stream()
+                .map(entry ->
+                    new Object[] {
+                        teamId,
+                        entry.getKey().getDimension(),
+                        entry.getKey().getBucket(),
+                        entry.getValue(),
+                        entry.getValue(),
+                    }
+                )
+                .toList()
+        );
+    }
+
+    public List<CounterRow> findByTeamId(Long teamId) {
+        return jdbcTemplate.query(
+            SELECT_SQL,
+            (rs, rowNum) ->
+                new CounterRow(
+                    rs.getString("dimension"),
+                    rs.getString("bucket"),
+                    rs.getLong("task_count")
+                ),
+            teamId
+        );
+    }
+
+    /**
+     * Overdue depends on the clock, so it cannot be a maintained counter.
+     * Counted with a range scan on idx_task_team_archived_due instead.
+     */
+    public long countOverdue(Long teamId) {
+        Long count = jdbcTemplate.queryForObject(OVERDUE_SQL, Long.class, teamId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Recomputes a team's counters from the tasks table.
+     * Must run in a transaction; INSERT ... SELECT locks the scanned task
+     * rows, so concurrent writes to the team wait for the rebuild.
+     */
+    public void rebuild(Long teamId) {
+        jdbcTemplate.update(DELETE_SQL, teamId);
+        for (String sql : REBUILD_SQL) {
+            jdbcTemplate.update(sql, teamId);
+        }
+    }
+
+    /**
+     * (dimension, bucket) key of a counter row. Sorted by dimension, then bucket.
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class CounterKey implements Comparable<CounterKey> {
+
+        private final String dimension;
+        private final String bucket;
+
+        @Override
+        public int compareTo(CounterKey other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : bucket.compareTo(other.bucket);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CounterRow {
+
+        private final String dimension;
+        private final String bucket;
+        private final long taskCount;
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the team_versions table.
+ * Reads join user_team so membership and version come back in one round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamVersionRepository {
+
+    private static final String BUMP_SQL =
+        "INSERT INTO team_versions (team_id, version) VALUES (?, 1) " +
+        "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    private static final String VERSION_SQL =
+        "SELECT version FROM team_versions WHERE team_id = ?";
+
+    private static final String MEMBER_VERSION_SQL =
+        "SELECT COALESCE(tv.version, 0) FROM user_team ut " +
+        "LEFT JOIN team_versions tv ON tv.team_id = ut.team_id " +
+        "WHERE ut.user_id = ? AND ut.team_id = ?";
+
+    private static final String USER_VERSIONS_SQL =
+        "SELECT ut.team_id, COALESCE(tv.version, 0) AS version " +
+        "FROM user_team ut " +
+        "LEFT JOIN team_versions tv ON tv.team_id = ut.team_id " +
+        "WHERE ut.user_id = ? ORDER BY ut.team_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Increments a team's version. The row lock is held until the calling
+     * transaction commits, so versions are ordered like the writes they count.
+     */
+    public void bump(Long teamId) {
+        jdbcTemplate.update(BUMP_SQL, teamId);
+    }
+
+    /**
+     * @return The team's version, or 0 if it has never been bumped.
+     */
+    public long findVersion(Long teamId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+            VERSION_SQL,
+            Long.class,
+            teamId
+        );
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    /**
+     * @return The team's version, or null if the user is not a member.
+     */
+    public Long findVersionForMember(Long teamId, Long userId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+            MEMBER_VERSION_SQL,
+            Long.class,
+            userId,
+            teamId
+        );
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * @return (teamId, version) for every team the user belongs to, by team id.
+     */
+    public List<TeamVersion> findVersionsForUser(Long userId) {
+        return jdbcTemplate.query(
+            USER_VERSIONS_SQL,
+            (rs, rowNum) ->
+                new TeamVersion(rs.getLong("team_id"), rs.getLong("version")),
+            userId
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TeamVersion {
+
+        private final Long teamId;
+        private final long version;
+    }
+}
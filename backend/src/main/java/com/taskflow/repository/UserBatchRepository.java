@@ -0,0 +1,91 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch writer for bulk user provisioning.
+ * Like TaskBatchRepository: IDENTITY inserts go out as one JDBC batch per
+ * BATCH_SIZE rows and the generated ids are read back in insertion order.
+ * Joins the surrounding transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (name, email, password_hash, status) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_MEMBERSHIP_SQL =
+        "INSERT INTO user_team (user_id, team_id, role) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts unsaved users. The generated ids are set on the given objects.
+     */
+    public void insertAll(List<User> users) {
+        for (int from = 0; from < users.size(); from += BATCH_SIZE) {
+            List<User> batch = users.subList(from, Math.min(from + BATCH_SIZE, users.size()));
+            List<Long> ids = jdbcTemplate.execute(
+                (ConnectionCallback<List<Long>>) connection -> {
+                    try (
+                        PreparedStatement ps = connection.prepareStatement(
+                            INSERT_USER_SQL,
+                            Statement.RETURN_GENERATED_KEYS
+                        )
+                    ) {
+                        for (User user : batch) {
+                            ps.setString(1, user.getName());
+                            ps.setString(2, user.getEmail());
+                            ps.setString(3, user.getPasswordHash());
+                            ps.setString(4, user.getStatus().name());
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+
+                        List<Long> generatedIds = new ArrayList<>(batch.size());
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                generatedIds.add(keys.getLong(1));
+                            }
+                        }
+                        return generatedIds;
+                    }
+                }
+            );
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setId(ids.get(i));
+            }
+        }
+    }
+
+    /**
+     * Adds the (already inserted) users to a team, BATCH_SIZE rows per batch.
+     *
+     * @param roles Each user's role, in the order of 'users'.
+     */
+    public void insertMemberships(Long teamId, List<User> users, List<TeamRole> roles) {
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            rows.add(new Object[] { users.get(i).getId(), teamId, roles.get(i).name() });
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                INSERT_MEMBERSHIP_SQL,
+                rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()))
+            );
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.taskflow.repository;
 
 import com.taskflow.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -26,4 +30,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if an email exists, false otherwise.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Finds all users with any of the given emails in a single query.
+     *
+     * @param emails The emails to look up.
+     * @return The matching users (unknown emails are simply absent).
+     */
+    List<User> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Bumps the user's membership version; keeps updated_at unchanged.
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE users SET membership_version = membership_version + 1, " +
+        "updated_at = updated_at WHERE user_id = :userId",
+        nativeQuery = true
+    )
+    int incrementMembershipVersion(Long userId);
+
+    /**
+     * Replaces the user's password hash (e.g. rehash at a higher BCrypt cost).
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.id = :userId")
+    int updatePasswordHash(Long userId, String passwordHash);
+
+    /**
+     * Loads the state a token-built principal needs, without the entity.
+     *
+     * @param userId The user's id.
+     * @return The user's state, or empty if the user no longer exists.
+     */
+    @Query(
+        "SELECT new com.taskflow.repository.UserStateRow(" +
+        "u.status, u.membershipVersion, u.avatarUrl, u.createdAt) " +
+        "FROM User u WHERE u.id = :userId"
+    )
+    Optional<UserStateRow> findStateById(Long userId);
 }
@@ -0,0 +1,21 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.UserStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The mutable parts of a user that a token-built principal cannot carry:
+ * account status, membership version and profile fields shown in DTOs.
+ * Produced by a JPQL constructor expression (primary key lookup).
+ */
+@Getter
+@AllArgsConstructor
+public class UserStateRow {
+
+    private final UserStatus status;
+    private final long membershipVersion;
+    private final String avatarUrl;
+    private final LocalDateTime createdAt;
+}
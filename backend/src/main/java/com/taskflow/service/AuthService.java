@@ -2,12 +2,14 @@ package com.taskflow.service;
 
 import com.taskflow.dto.LoginRequest;
 import com.taskflow.dto.LoginResponse;
+import com.taskflow.dto.RefreshTokenRequest;
 import com.taskflow.dto.RegisterRequest;
 import com.taskflow.dto.UserDto;
 import com.taskflow.entity.User;
 import com.taskflow.entity.UserStatus;
 import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.repository.UserRepository;
+import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,6 +29,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshSessionService refreshSessionService;
+    private final TokenRevocationService tokenRevocationService;
     private final AuthenticationManager authenticationManager;
 
     /**
@@ -106,19 +110,54 @@ public class AuthService {
         // The principal is the UserDetails object we returned from UserDetailsServiceImpl
         User user = (User) authentication.getPrincipal();
 
-        // 3. Generate tokens
-        String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
+        // 3. Open a refresh session and build the response
+        String refreshToken = refreshSessionService.createSession(user);
+        return buildLoginResponse(user, refreshToken);
+    }
+
+    /**
+     * Exchanges a refresh token for new tokens without a password check.
+     * The refresh token is rotated: the presented one stops working.
+     *
+     * @param request The request containing the current refresh token.
+     * @return A LoginResponse with a new access and refresh token.
+     * @throws com.taskflow.exception.InvalidTokenException if the refresh token
+     *         is invalid, expired or was already used.
+     */
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshSessionService.Rotation rotation = refreshSessionService.rotate(
+            request.getRefreshToken()
+        );
+        return buildLoginResponse(rotation.getUser(), rotation.getRefreshToken());
+    }
 
-        // 4. Map user to DTO
-        UserDto userDto = mapUserToDto(user);
+    /**
+     * Logs out: revokes the current access token and, if given, ends the
+     * refresh token's session.
+     *
+     * @param user         The authenticated user.
+     * @param tokenId      The access token's jti (null for tokens without one).
+     * @param expiresAt    The access token's expiry.
+     * @param refreshToken The session's refresh token, or null.
+     */
+    public void logout(User user, String tokenId, Date expiresAt, String refreshToken) {
+        // 1. Revoke the access token for the rest of its lifetime
+        if (tokenId != null) {
+            tokenRevocationService.revoke(tokenId, expiresAt, user.getId());
+        }
+
+        // 2. End the refresh session so no new access tokens can be minted
+        if (refreshToken != null) {
+            refreshSessionService.endSession(refreshToken, user.getId());
+        }
+    }
 
-        // 5. Build and return the response
+    private LoginResponse buildLoginResponse(User user, String refreshToken) {
         return LoginResponse.builder()
-            .accessToken(accessToken)
+            .accessToken(jwtService.generateAccessToken(user))
             .refreshToken(refreshToken)
             .expiresIn(jwtService.getAccessTokenExpirationInSeconds())
-            .user(userDto)
+            .user(mapUserToDto(user))
             .build();
     }
 }
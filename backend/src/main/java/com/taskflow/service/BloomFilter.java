@@ -0,0 +1,112 @@
+package com.taskflow.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings, sized from an expected number of insertions and
+ * a target false-positive rate.
+ * "No" answers are exact; "maybe" answers must be confirmed elsewhere.
+ * Thread-safe: bits are set with CAS, so reads never block writers.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    /**
+     * @param expectedInsertions Items the filter is sized for.
+     * @param falsePositiveRate  Target rate at that many items, e.g. 0.001.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("false positive rate must be in (0, 1)");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long bits = (long) Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2)
+        );
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = (int) Math.max(
+            1,
+            Math.round((double) bitCount / expectedInsertions * LN2)
+        );
+    }
+
+    public void put(String key) {
+        long h1 = hash(key, 0xcbf29ce484222325L);
+        long h2 = hash(key, 0x9e3779b97f4a7c15L) | 1; // Odd, so never a zero stride
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) {
+                bitsSet.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return False if 'key' was never added; true if it probably was.
+     */
+    public boolean mightContain(String key) {
+        long h1 = hash(key, 0xcbf29ce484222325L);
+        long h2 = hash(key, 0x9e3779b97f4a7c15L) | 1; // Odd, so never a zero stride
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Current false-positive probability, from the fraction of bits set.
+     */
+    public double approximateFalsePositiveRate() {
+        return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+    }
+
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a over the chars, finished with MurmurHash3's fmix64 so that
+     * short, similar keys still spread over all 64 bits.
+     */
+    private static long hash(String key, long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskflow.service;
+
+import com.taskflow.repository.SchedulerLeaseRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TeamVersionRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Repairs drift in the denormalized tasks.comments_count column.
+ * Walks the tasks table in primary-key ranges, one short transaction per
+ * chunk, so it never holds locks on the whole table.
+ *
+ * Repairs change what listings return, so each chunk bumps the versions of
+ * the teams it touched (ETags) and evicts their cached boards.
+ * The nightly run is taken by one node only, through the
+ * 'comment-count-reconcile' row in scheduler_leases.
+ */
+@Service
+@Slf4j
+public class CommentCountReconciler {
+
+    static final String LEASE_NAME = "comment-count-reconcile";
+
+    private final TaskRepository taskRepository;
+    private final TeamVersionRepository teamVersionRepository;
+    private final TaskBoardCache taskBoardCache;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    @Value("${app.tasks.comment-count-reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.tasks.comment-count-reconcile.lease-ttl:1h}")
+    private Duration leaseTtl;
+
+    public CommentCountReconciler(
+        TaskRepository taskRepository,
+        TeamVersionRepository teamVersionRepository,
+        TaskBoardCache taskBoardCache,
+        SchedulerLeaseRepository schedulerLeaseRepository,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.taskRepository = taskRepository;
+        this.teamVersionRepository = teamVersionRepository;
+        this.taskBoardCache = taskBoardCache;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = SchedulerNodeId.newNodeId();
+    }
+
+    /**
+     * Nightly reconciliation run (see app.tasks.comment-count-reconcile.cron).
+     * Skipped on every node but the lease holder; the lease is left to
+     * expire, which also stops a second run within lease-ttl.
+     */
+    @Scheduled(cron = "${app.tasks.comment-count-reconcile.cron:0 30 3 * * *}")
+    public void reconcileScheduled() {
+        if (!schedulerLeaseRepository.tryAcquireLease(LEASE_NAME, nodeId, leaseTtl)) {
+            log.debug("Comment count reconciliation is running on another node");
+            return;
+        }
+        reconcileAll();
+    }
+
+    /**
+     * Recomputes comment counts for every task, chunk by chunk.
+     *
+     * @return The number of tasks whose count was repaired.
+     */
+    public long reconcileAll() {
+        Long maxId = taskRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        long repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            final long from = fromId;
+            final long to = fromId + chunkSize - 1;
+            ChunkResult chunk = transactionTemplate.execute(status -> {
+                List<Long> teamIds = taskRepository.findTeamIdsWithCommentsCountDrift(
+                    from,
+                    to
+                );
+                if (teamIds.isEmpty()) {
+                    return new ChunkResult(0, teamIds);
+                }
+                int count = taskRepository.reconcileCommentsCount(from, to);
+                // Listings of these teams changed; sorted to lock versions in order
+                new TreeSet<>(teamIds).forEach(teamVersionRepository::bump);
+                return new ChunkResult(count, teamIds);
+            });
+            if (chunk == null) {
+                continue;
+            }
+            // Committed: drop the boards now rather than waiting for a newer version
+            chunk.teamIds.forEach(taskBoardCache::invalidate);
+            repaired += chunk.repaired;
+        }
+
+        log.info("Comment count reconciliation repaired {} tasks", repaired);
+        return repaired;
+    }
+
+    /**
+     * What one committed chunk repaired.
+     */
+    @AllArgsConstructor
+    private static class ChunkResult {
+
+        private final int repaired;
+        private final List<Long> teamIds;
+    }
+}
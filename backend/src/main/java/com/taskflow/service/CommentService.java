@@ -7,16 +7,17 @@ import com.taskflow.entity.Comment;
 import com.taskflow.entity.NotificationType;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.User;
-import com.taskflow.exception.AccessDeniedException;
+import com.taskflow.event.TaskCommentedEvent;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.repository.CommentRepository;
+import com.taskflow.repository.TaskArchiveRepository;
 import com.taskflow.repository.TaskRepository;
-import com.taskflow.repository.UserTeamRepository;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +27,11 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
-    private final UserTeamRepository userTeamRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
     private final TaskService taskService; // For helper methods
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Adds a comment to a task.
@@ -47,7 +50,7 @@ public class CommentService {
             );
 
         // 2. Verify user is a member of the task's team
-        verifyTeamMembership(task.getTeam().getId(), user.getId());
+        membershipAuthorizer.verifyMember(task.getTeam().getId(), user.getId());
 
         // 3. Create and save the comment
         Comment comment = Comment.builder()
@@ -57,6 +60,15 @@ public class CommentService {
             .build();
 
         Comment savedComment = commentRepository.save(comment);
+        taskRepository.incrementCommentsCount(taskId);
+        eventPublisher.publishEvent(
+            new TaskCommentedEvent(
+                task.getTeam().getId(),
+                taskId,
+                savedComment.getId(),
+                user.getId()
+            )
+        );
 
         // --- Notification Logic ---
         // 2. Notify all assignees + the task creator
@@ -83,19 +95,25 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public List<CommentDto> getCommentsForTask(Long taskId, User user) {
-        // 1. Find the task
-        Task task = taskRepository
-            .findById(taskId)
-            .orElseThrow(() ->
-                new ResourceNotFoundException("Task", "id", taskId)
-            );
+        // 1. Find the task, falling back to cold storage
+        Task task = taskRepository.findById(taskId).orElse(null);
+        boolean inColdStorage = false;
+        if (task == null) {
+            task = taskArchiveRepository
+                .findTask(taskId)
+                .orElseThrow(() ->
+                    new ResourceNotFoundException("Task", "id", taskId)
+                );
+            inColdStorage = true;
+        }
 
         // 2. Verify user is a member of the task's team
-        verifyTeamMembership(task.getTeam().getId(), user.getId());
+        membershipAuthorizer.verifyMember(task.getTeam().getId(), user.getId());
 
         // 3. Fetch and map comments
-        List<Comment> comments =
-            commentRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
+        List<Comment> comments = inColdStorage
+            ? taskArchiveRepository.findComments(taskId)
+            : commentRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
         return comments
             .stream()
             .map(this::mapCommentToDto)
@@ -104,17 +122,6 @@ public class CommentService {
 
     // --- Helper Methods ---
 
-    private void verifyTeamMembership(Long teamId, Long userId) {
-        if (
-            !userTeamRepository
-                .findByUserIdAndTeamId(userId, teamId)
-                .isPresent()
-        ) {
-            throw new AccessDeniedException(
-                "User is not a member of this team"
-            );
-        }
-    }
 
     private CommentDto mapCommentToDto(Comment comment) {
         return CommentDto.builder()
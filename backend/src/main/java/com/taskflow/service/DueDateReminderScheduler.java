@@ -0,0 +1,291 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.Notification;
+import com.taskflow.entity.NotificationType;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+import com.taskflow.event.TaskChange;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.repository.DueReminderRepository;
+import com.taskflow.repository.DueReminderRepository.DueTask;
+import com.taskflow.repository.SchedulerLeaseRepository;
+import com.taskflow.repository.TaskRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Produces DUE_DATE_APPROACHING notifications 'lead-time' before each deadline.
+ *
+ * One node at a time (the holder of the scheduler_leases row) walks
+ * idx_task_due_date forward in slices and keeps the deadlines of the next
+ * 'lookahead' in an in-memory timing wheel, so a tick only reads newly
+ * entered deadlines and fires the slots that came due. The persisted
+ * watermark (every deadline up to it has been handled) lets a restarted or
+ * newly elected node resume without rescanning the table.
+ *
+ * Deadlines set by a write inside the already-loaded window are reminded by
+ * the writing node right after commit, at most one lookahead early.
+ * Every reminder is claimed in due_date_reminders first, so overlapping
+ * leaders, restarts and the write-time path never notify twice.
+ */
+@Service
+@Slf4j
+public class DueDateReminderScheduler {
+
+    static final String LEASE_NAME = "due-date-reminders";
+    private static final Duration CLAIM_RETENTION = Duration.ofDays(7);
+
+    private final DueReminderRepository dueReminderRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate requiresNewTx;
+    private final String nodeId;
+
+    @Value("${app.tasks.due-reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.tasks.due-reminders.lead-time:24h}")
+    private Duration leadTime;
+
+    @Value("${app.tasks.due-reminders.lookahead:15m}")
+    private Duration lookahead;
+
+    @Value("${app.tasks.due-reminders.tick:30s}")
+    private Duration tickInterval;
+
+    @Value("${app.tasks.due-reminders.batch-size:500}")
+    private int batchSize;
+
+    // Leader-only state, touched by the scheduler thread alone
+    private boolean leader;
+    private TimingWheel<DueTask> wheel;
+    private LocalDateTime loadedDue; // Deadlines up to (loadedDue, loadedId) are in the wheel
+    private long loadedId;
+
+    public DueDateReminderScheduler(
+        DueReminderRepository dueReminderRepository,
+        SchedulerLeaseRepository schedulerLeaseRepository,
+        TaskRepository taskRepository,
+        NotificationService notificationService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.dueReminderRepository = dueReminderRepository;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        // Also used from after-commit callbacks, which must not join the finished transaction
+        this.requiresNewTx = new TransactionTemplate(transactionManager);
+        this.requiresNewTx.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW
+        );
+        this.nodeId = SchedulerNodeId.newNodeId();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.tasks.due-reminders.tick:30s}",
+        initialDelayString = "${app.tasks.due-reminders.tick:30s}"
+    )
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runTick(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // Drop in-memory state; the next tick resumes from the watermark
+            log.error("Due-date reminder tick failed", e);
+            leader = false;
+        }
+    }
+
+    void runTick(LocalDateTime now) {
+        // 1. Only the lease holder scans; a new holder restarts from the watermark
+        if (
+            !schedulerLeaseRepository.tryAcquireLease(
+                LEASE_NAME,
+                nodeId,
+                tickInterval.multipliedBy(3)
+            )
+        ) {
+            if (leader) {
+                log.info("Lost due-date reminder lease");
+                leader = false;
+                wheel = null;
+            }
+            return;
+        }
+        if (!leader) {
+            LocalDateTime watermark = schedulerLeaseRepository.findWatermark(LEASE_NAME);
+            wheel = new TimingWheel<>(
+                tickInterval.toMillis(),
+                (int) (lookahead.toMillis() / tickInterval.toMillis()) + 2,
+                toMillis(now)
+            );
+            loadedDue = watermark == null ? now : watermark;
+            loadedId = 0;
+            leader = true;
+            log.info("Acquired due-date reminder lease, resuming after {}", loadedDue);
+        }
+
+        // 2. Load deadlines that entered the window since the last tick
+        if (loadedDue.isBefore(now)) {
+            // Deadlines already past get no reminder
+            loadedDue = now;
+            loadedId = 0;
+        }
+        LocalDateTime horizon = now.plus(leadTime).plus(lookahead);
+        List<DueTask> slice;
+        do {
+            slice = dueReminderRepository.findUpcoming(
+                loadedDue,
+                loadedId,
+                horizon,
+                batchSize
+            );
+            for (DueTask dueTask : slice) {
+                wheel.add(toMillis(dueTask.getDueDate().minus(leadTime)), dueTask);
+                loadedDue = dueTask.getDueDate();
+                loadedId = dueTask.getTaskId();
+            }
+        } while (slice.size() == batchSize);
+        loadedDue = horizon;
+        loadedId = Long.MAX_VALUE;
+
+        // 3. Fire every slot that came due, in batches
+        List<DueTask> due = wheel.advance(toMillis(now));
+        for (int from = 0; from < due.size(); from += batchSize) {
+            remind(due.subList(from, Math.min(from + batchSize, due.size())), now);
+        }
+
+        // 4. Everything due within the lead time has now been handled
+        schedulerLeaseRepository.saveWatermark(LEASE_NAME, nodeId, now.plus(leadTime));
+        dueReminderRepository.purgeClaims(now.minus(CLAIM_RETENTION), batchSize);
+    }
+
+    /**
+     * Reminds right away for deadlines written inside the window the leader
+     * has already loaded (including deadlines already within the lead time).
+     */
+    @TransactionalEventListener
+    public void onTasksChanged(TasksChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime loadedWindow = now.plus(leadTime).plus(lookahead);
+        List<DueTask> reminders = new ArrayList<>();
+        for (TaskChange change : event.getChanges()) {
+            TaskSnapshot after = change.getAfter();
+            TaskSnapshot before = change.getBefore();
+            if (
+                after.isArchived() ||
+                after.getDueDate() == null ||
+                !after.getDueDate().isAfter(now) ||
+                after.getDueDate().isAfter(loadedWindow)
+            ) {
+                continue;
+            }
+            boolean deadlineSet =
+                before == null ||
+                before.isArchived() ||
+                !Objects.equals(before.getDueDate(), after.getDueDate());
+            if (deadlineSet) {
+                reminders.add(new DueTask(after.getTaskId(), after.getDueDate()));
+            }
+        }
+        if (!reminders.isEmpty()) {
+            remind(reminders, now);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * Re-checks the tasks, claims their reminders and writes the notifications,
+     * all in one transaction so a claim never exists without its notifications.
+     */
+    private void remind(List<DueTask> reminders, LocalDateTime now) {
+        Integer sent = requiresNewTx.execute(status -> {
+            // 1. Load tasks with creator and assignees in one query
+            Map<Long, Task> tasks = taskRepository
+                .findWithAssigneesByIdIn(
+                    reminders.stream().map(DueTask::getTaskId).toList()
+                )
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            // 2. Skip tasks closed, archived or rescheduled since they were loaded
+            List<DueTask> stillDue = reminders
+                .stream()
+                .filter(reminder ->
+                    isStillDue(tasks.get(reminder.getTaskId()), reminder, now)
+                )
+                .toList();
+
+            // 3. Claim; anything claimed before is skipped
+            List<Long> claimed = dueReminderRepository.claim(
+                stillDue,
+                UUID.randomUUID().toString()
+            );
+
+            // 4. Notify assignees, or the creator of an unassigned task
+            List<Notification> notifications = new ArrayList<>();
+            for (Long taskId : claimed) {
+                Task task = tasks.get(taskId);
+                Set<User> recipients = task.getAssignees() == null ||
+                    task.getAssignees().isEmpty()
+                    ? Set.of(task.getCreatedBy())
+                    : new HashSet<>(task.getAssignees());
+                notifications.addAll(
+                    notificationService.buildNotifications(
+                        recipients,
+                        task,
+                        NotificationType.DUE_DATE_APPROACHING,
+                        "Task \"" + task.getTitle() + "\" is due " + task.getDueDate()
+                    )
+                );
+            }
+            notificationService.saveInBatch(notifications);
+            return claimed.size();
+        });
+        if (sent != null && sent > 0) {
+            log.debug("Sent {} due-date reminders", sent);
+        }
+    }
+
+    private boolean isStillDue(Task task, DueTask reminder, LocalDateTime now) {
+        return (
+            task != null &&
+            !task.isArchived() &&
+            task.getStatus() != TaskStatus.DONE &&
+            task.getStatus() != TaskStatus.ARCHIVED &&
+            reminder.getDueDate().equals(task.getDueDate()) &&
+            task.getDueDate().isAfter(now)
+        );
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,10 +1,23 @@
 package com.taskflow.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.taskflow.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,39 +30,86 @@ import org.springframework.stereotype.Service;
 /**
  * Service for handling JSON Web Tokens (JWTs).
  * Handles generation, validation, and claim extraction.
+ *
+ * The signing key and parser are built once. Verified tokens can be kept in a
+ * small cache of SHA-256 digest -> claims, so a client replaying the same
+ * token skips signature checking and JSON parsing; expiry is still checked on
+ * every hit. Metrics: cache.* with tag cache=jwt.verified.
  */
 @Service
 public class JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${app.jwt.access-token-expiration-ms}")
-    private long accessTokenExpirationMs;
-
-    @Value("${app.jwt.refresh-token-expiration-ms}")
-    private long refreshTokenExpirationMs;
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final TeamClaimsService teamClaimsService;
+    private final TokenPrincipalService tokenPrincipalService;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long accessTokenExpirationMs;
+    private final long refreshTokenExpirationMs;
+    private final Cache<String, Claims> verifiedTokens; // null when disabled
+
+    public JwtService(
+        TeamClaimsService teamClaimsService,
+        TokenPrincipalService tokenPrincipalService,
+        MeterRegistry meterRegistry,
+        @Value("${app.jwt.secret}") String jwtSecret,
+        @Value("${app.jwt.access-token-expiration-ms}") long accessTokenExpirationMs,
+        @Value("${app.jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs,
+        @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheSize,
+        @Value("${app.jwt.verified-cache.ttl:1m}") Duration verifiedCacheTtl
+    ) {
+        this.teamClaimsService = teamClaimsService;
+        this.tokenPrincipalService = tokenPrincipalService;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        if (verifiedCacheSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(verifiedCacheTtl)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
 
     /**
      * Generates an access token for a user.
+     * Embeds team membership claims when app.jwt.embed-team-claims is on,
+     * and identity claims when app.jwt.stateless-principal is on.
      */
     public String generateAccessToken(UserDetails userDetails) {
-        return buildToken(
-            new HashMap<>(),
-            userDetails,
-            accessTokenExpirationMs
-        );
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.putAll(teamClaimsService.buildClaims(user));
+            claims.putAll(tokenPrincipalService.buildClaims(user));
+        }
+        claims.put(Claims.ID, newTokenId()); // Lets the token be revoked
+        return buildToken(claims, userDetails, accessTokenExpirationMs);
     }
 
     /**
-     * Generates a refresh token for a user.
+     * Generates a refresh token for a session (see RefreshSessionService).
+     * Only the hash of 'tokenId' is stored server-side.
      */
-    public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(
-            new HashMap<>(),
-            userDetails,
-            refreshTokenExpirationMs
-        );
+    public String generateRefreshToken(
+        UserDetails userDetails,
+        long sessionId,
+        String tokenId
+    ) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        claims.put(SESSION_ID_CLAIM, sessionId);
+        claims.put(Claims.ID, tokenId);
+        return buildToken(claims, userDetails, refreshTokenExpirationMs);
     }
 
     /**
@@ -65,23 +125,57 @@ public class JwtService {
             .subject(userDetails.getUsername()) // We use email as username
             .issuedAt(new Date(System.currentTimeMillis()))
             .expiration(new Date(System.currentTimeMillis() + expiration))
-            .signWith(getSigningKey(), Jwts.SIG.HS256)
+            .signWith(signingKey, Jwts.SIG.HS256)
             .compact();
     }
 
     /**
-     * Validates a token against UserDetails.
+     * Verifies the token's signature and expiry and returns its claims.
+     * Callers should parse once per request and pass the claims along.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired.
      */
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+    public Claims parseClaims(String token) {
+        if (verifiedTokens == null) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(digest, claims);
+        } else if (isExpired(claims)) {
+            verifiedTokens.invalidate(digest);
+            throw new ExpiredJwtException(null, claims, "JWT expired");
+        }
+        return claims;
+    }
+
+    /**
+     * Validates already-verified access token claims against UserDetails.
+     * Refresh tokens are only accepted by the refresh endpoint.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
         return (
-            (username.equals(userDetails.getUsername())) &&
-            !isTokenExpired(token)
+            userDetails.getUsername().equals(claims.getSubject()) &&
+            !isExpired(claims) &&
+            !isRefreshToken(claims)
         );
     }
 
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    /**
+     * Validates a token against UserDetails.
+     */
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isExpired(parseClaims(token));
     }
 
     public String extractUsername(String token) {
@@ -96,27 +190,41 @@ public class JwtService {
         String token,
         Function<Claims, T> claimsResolver
     ) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
-     * Gets the signing key from the application properties.
+     * Random 128-bit token id (jti), base64url encoded.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Cache key: the raw bearer token is never kept in memory.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(
+                token.getBytes(StandardCharsets.US_ASCII)
+            );
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public long getAccessTokenExpirationInSeconds() {
         return accessTokenExpirationMs / 1000;
     }
+
+    public Duration getRefreshTokenExpiration() {
+        return Duration.ofMillis(refreshTokenExpirationMs);
+    }
 }
@@ -0,0 +1,142 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.config.JwtAuthenticationDetails;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserTeam;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.exception.AccessDeniedException;
+import com.taskflow.repository.UserTeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Single place for team membership and role checks.
+ * Roles are kept in a bounded in-process cache of (userId, teamId) -> role,
+ * so repeated checks are memory lookups. Only memberships are cached (never
+ * "not a member"), and an entry is dropped after any committed membership
+ * change for that pair; the TTL bounds staleness for changes made elsewhere.
+ * When the caller's access token carries fresh team claims (see
+ * TeamClaimsService), those answer checks for the caller without any lookup.
+ *
+ * Metrics: cache.* with tag cache=team.membership.
+ */
+@Service
+public class MembershipAuthorizer {
+
+    private final UserTeamRepository userTeamRepository;
+    private final Cache<MembershipKey, TeamRole> roles;
+
+    public MembershipAuthorizer(
+        UserTeamRepository userTeamRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.teams.membership-cache.max-size:100000}") long maxSize,
+        @Value("${app.teams.membership-cache.ttl:5m}") Duration ttl
+    ) {
+        this.userTeamRepository = userTeamRepository;
+        this.roles = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roles, "team.membership");
+    }
+
+    /**
+     * @return The user's role in the team, or null if not a member.
+     */
+    public TeamRole getRole(Long teamId, Long userId) {
+        Map<Long, TeamRole> tokenRoles = tokenTeamRoles(userId);
+        if (tokenRoles != null) {
+            return tokenRoles.get(teamId);
+        }
+        // A null result is not stored, so non-members are always re-checked
+        return roles.get(new MembershipKey(userId, teamId), key ->
+            userTeamRepository
+                .findByUserIdAndTeamId(userId, teamId)
+                .map(UserTeam::getRole)
+                .orElse(null)
+        );
+    }
+
+    public boolean isMember(Long teamId, Long userId) {
+        return getRole(teamId, userId) != null;
+    }
+
+    /**
+     * @throws AccessDeniedException if the user is not a member of the team.
+     */
+    public void verifyMember(Long teamId, Long userId) {
+        if (!isMember(teamId, userId)) {
+            throw new AccessDeniedException(
+                "User is not a member of this team"
+            );
+        }
+    }
+
+    /**
+     * @throws AccessDeniedException if the user is not a member or lacks the role.
+     */
+    public void verifyRole(Long teamId, Long userId, TeamRole requiredRole) {
+        TeamRole role = getRole(teamId, userId);
+        if (role == null) {
+            throw new AccessDeniedException("User is not a member of this team");
+        }
+        if (role != requiredRole) {
+            // For now, only check for exact role.
+            // We could expand this to hierarchical roles (e.g., ADMIN > MEMBER)
+            throw new AccessDeniedException(
+                "User does not have required permissions: " + requiredRole
+            );
+        }
+    }
+
+    public void invalidate(Long teamId, Long userId) {
+        roles.invalidate(new MembershipKey(userId, teamId));
+    }
+
+    /**
+     * Joins, role changes and removals all publish TeamMembershipChangedEvent.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        invalidate(event.getTeamId(), event.getUserId());
+    }
+
+    /**
+     * Team roles from the current request's access token, if they describe
+     * 'userId' and were issued at the user's current membership version.
+     */
+    private Map<Long, TeamRole> tokenTeamRoles(Long userId) {
+        Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        if (
+            authentication != null &&
+            authentication.getPrincipal() instanceof User user &&
+            user.getId().equals(userId) &&
+            authentication.getDetails() instanceof JwtAuthenticationDetails details
+        ) {
+            return details.getTeamRoles();
+        }
+        return null;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class MembershipKey {
+
+        private final Long userId;
+        private final Long teamId;
+    }
+}
@@ -5,7 +5,9 @@ import com.taskflow.entity.Notification;
 import com.taskflow.entity.NotificationType;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.User;
+import com.taskflow.repository.NotificationBatchRepository;
 import com.taskflow.repository.NotificationRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
 
     /**
      * Fetches all (unread and read) notifications for a user.
@@ -42,7 +45,29 @@ public class NotificationService {
         NotificationType type,
         String message
     ) {
-        List<Notification> notifications = recipients
+        List<Notification> notifications = buildNotifications(
+            recipients,
+            task,
+            type,
+            message
+        );
+
+        notificationRepository.saveAll(notifications);
+        // In a real app, this would also trigger an email
+        // by pushing to a queue (e.g., SQS/RabbitMQ).
+    }
+
+    /**
+     * Builds (but does not save) one notification per recipient.
+     * Lets callers collect notifications and write them in one batch.
+     */
+    public List<Notification> buildNotifications(
+        Set<User> recipients,
+        Task task,
+        NotificationType type,
+        String message
+    ) {
+        return recipients
             .stream()
             .map(user ->
                 Notification.builder()
@@ -55,10 +80,14 @@ public class NotificationService {
                     .build()
             )
             .collect(Collectors.toList());
+    }
 
-        notificationRepository.saveAll(notifications);
-        // In a real app, this would also trigger an email
-        // by pushing to a queue (e.g., SQS/RabbitMQ).
+    /**
+     * Saves notifications collected from buildNotifications with JDBC batching.
+     */
+    @Transactional
+    public void saveInBatch(Collection<Notification> notifications) {
+        notificationBatchRepository.insertAll(notifications);
     }
 
     private NotificationDto mapToDto(Notification notification) {
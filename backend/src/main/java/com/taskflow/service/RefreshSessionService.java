@@ -0,0 +1,194 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.User;
+import com.taskflow.exception.InvalidTokenException;
+import com.taskflow.repository.RefreshSessionRepository;
+import com.taskflow.repository.RefreshSessionRepository.RefreshSession;
+import com.taskflow.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Refresh token sessions with rotation and reuse detection.
+ *
+ * Each login opens a session row holding the SHA-256 of the current refresh
+ * token's id. A refresh swaps that hash for the next token's, so every
+ * refresh token works once. Presenting an already-rotated token means it was
+ * copied: the whole session is dropped and the user must log in again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshSessionService {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final UserRepository userRepository;
+    private final JwtService jwtService;
+
+    @Value("${app.auth.refresh-sessions.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * Opens a session for a freshly authenticated user.
+     *
+     * @return The session's first refresh token.
+     */
+    @Transactional
+    public String createSession(User user) {
+        String tokenId = JwtService.newTokenId();
+        long sessionId = refreshSessionRepository.insert(
+            user.getId(),
+            hash(tokenId),
+            LocalDateTime.now().plus(jwtService.getRefreshTokenExpiration())
+        );
+        return jwtService.generateRefreshToken(user, sessionId, tokenId);
+    }
+
+    /**
+     * Exchanges a refresh token for the next one in its session.
+     * Costs one primary-key read of the session and one of the user.
+     *
+     * @throws InvalidTokenException if the token is invalid, expired, revoked
+     *         or was already used.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String refreshToken) {
+        // 1. Verify the token and that it is a refresh token
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw invalid();
+        }
+        Long sessionId = claims.get(JwtService.SESSION_ID_CLAIM, Long.class);
+        if (
+            !jwtService.isRefreshToken(claims) ||
+            sessionId == null ||
+            claims.getId() == null
+        ) {
+            throw invalid();
+        }
+
+        // 2. Find the session
+        RefreshSession session = refreshSessionRepository
+            .findById(sessionId)
+            .filter(row -> row.getExpiresAt().isAfter(LocalDateTime.now()))
+            .orElseThrow(this::invalid);
+
+        // 3. Reuse detection: only the session's current token may refresh
+        byte[] presentedHash = hash(claims.getId());
+        if (!MessageDigest.isEqual(presentedHash, session.getTokenHash())) {
+            refreshSessionRepository.delete(sessionId);
+            log.warn(
+                "Refresh token reuse for session {} of user {}; session revoked",
+                sessionId,
+                session.getUserId()
+            );
+            throw new InvalidTokenException(
+                "Refresh token has already been used, please log in again"
+            );
+        }
+
+        // 4. The user must still exist and be allowed to log in
+        User user = userRepository.findById(session.getUserId()).orElse(null);
+        if (user == null || !user.isEnabled()) {
+            refreshSessionRepository.delete(sessionId);
+            throw invalid();
+        }
+
+        // 5. Rotate; losing the race means the same token was used twice
+        String tokenId = JwtService.newTokenId();
+        boolean rotated = refreshSessionRepository.rotate(
+            sessionId,
+            presentedHash,
+            hash(tokenId),
+            LocalDateTime.now().plus(jwtService.getRefreshTokenExpiration())
+        );
+        if (!rotated) {
+            refreshSessionRepository.delete(sessionId);
+            throw new InvalidTokenException(
+                "Refresh token has already been used, please log in again"
+            );
+        }
+        return new Rotation(
+            user,
+            jwtService.generateRefreshToken(user, sessionId, tokenId)
+        );
+    }
+
+    /**
+     * Ends the refresh token's session (logout). Tokens that are invalid or
+     * belong to another user are ignored.
+     */
+    public void endSession(String refreshToken, Long userId) {
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        Long sessionId = claims.get(JwtService.SESSION_ID_CLAIM, Long.class);
+        if (!jwtService.isRefreshToken(claims) || sessionId == null) {
+            return;
+        }
+        refreshSessionRepository
+            .findById(sessionId)
+            .filter(session -> session.getUserId() == userId)
+            .ifPresent(session -> refreshSessionRepository.delete(sessionId));
+    }
+
+    /**
+     * Deletes expired sessions in small batches, each its own statement, so
+     * the purge never holds many row locks at once.
+     */
+    @Scheduled(cron = "${app.auth.refresh-sessions.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = refreshSessionRepository.purgeExpired(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            log.info("Purged {} expired refresh sessions", purged);
+        }
+    }
+
+    private InvalidTokenException invalid() {
+        return new InvalidTokenException("Invalid or expired refresh token");
+    }
+
+    private static byte[] hash(String tokenId) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(
+                tokenId.getBytes(StandardCharsets.US_ASCII)
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The user a refresh token belongs to and the session's next token.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+
+        private final User user;
+        private final String refreshToken;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * Owner ids for scheduler_leases rows.
+ * The host name tells operators which node holds a lease; the random suffix
+ * keeps two instances on one host (or a restarted one) apart.
+ */
+final class SchedulerNodeId {
+
+    private SchedulerNodeId() {}
+
+    static String newNodeId() {
+        return nodeName() + "/" + UUID.randomUUID();
+    }
+
+    private static String nodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ActivityCursor;
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.TaskEventDto;
+import com.taskflow.entity.TaskEventType;
+import com.taskflow.entity.User;
+import com.taskflow.event.TaskChange;
+import com.taskflow.event.TaskCommentedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.repository.TaskArchiveRepository;
+import com.taskflow.repository.TaskEventRepository;
+import com.taskflow.repository.TaskRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes the task_events activity log and serves task and team feeds.
+ * Events are appended in the writing transaction from the same before/after
+ * snapshots every other listener sees, one JDBC batch per write.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskActivityService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final TaskEventRepository taskEventRepository;
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+
+    /**
+     * Gets one page of a task's history, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the newest page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskEventDto> getTaskActivity(
+        Long taskId,
+        String cursor,
+        int limit,
+        User user
+    ) {
+        // 1. Find the task's team (hot or cold) and verify membership
+        Long teamId = taskRepository
+            .findTeamIdById(taskId)
+            .or(() -> taskArchiveRepository.findTeamId(taskId))
+            .orElseThrow(() ->
+                new ResourceNotFoundException("Task", "id", taskId)
+            );
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+
+        // 2. One range scan on idx_task_event_task
+        int pageSize = clampPageSize(limit);
+        return toPage(
+            taskEventRepository.findByTask(taskId, beforeEventId(cursor), pageSize + 1),
+            pageSize
+        );
+    }
+
+    /**
+     * Gets one page of a team's activity feed, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the newest page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskEventDto> getTeamActivity(
+        Long teamId,
+        String cursor,
+        int limit,
+        User user
+    ) {
+        // 1. Verify membership
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+
+        // 2. One range scan on idx_task_event_team
+        int pageSize = clampPageSize(limit);
+        return toPage(
+            taskEventRepository.findByTeam(teamId, beforeEventId(cursor), pageSize + 1),
+            pageSize
+        );
+    }
+
+    /**
+     * Appends one event per created/archived/restored task and one per
+     * changed field of updated tasks.
+     */
+    @EventListener
+    public void onTasksChanged(TasksChangedEvent event) {
+        List<TaskEventDto> events = new ArrayList<>();
+        for (TaskChange change : event.getChanges()) {
+            TaskSnapshot before = change.getBefore();
+            TaskSnapshot after = change.getAfter();
+            if (change.isCreated()) {
+                events.add(taskEvent(event, after, TaskEventType.CREATED, null, null, null));
+                continue;
+            }
+            addFieldChange(events, event, before, after, "title", TaskSnapshot::getTitle);
+            addFieldChange(events, event, before, after, "description", TaskSnapshot::getDescription);
+            addFieldChange(events, event, before, after, "status", TaskSnapshot::getStatus);
+            addFieldChange(events, event, before, after, "priority", TaskSnapshot::getPriority);
+            addFieldChange(events, event, before, after, "dueDate", TaskSnapshot::getDueDate);
+            addFieldChange(events, event, before, after, "assignees", snapshot ->
+                snapshot
+                    .getAssigneeIds()
+                    .stream()
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","))
+            );
+            if (before.isArchived() != after.isArchived()) {
+                TaskEventType type = after.isArchived()
+                    ? TaskEventType.ARCHIVED
+                    : TaskEventType.RESTORED;
+                events.add(taskEvent(event, after, type, null, null, null));
+            }
+        }
+        taskEventRepository.insertAll(events);
+    }
+
+    @EventListener
+    public void onTaskCommented(TaskCommentedEvent event) {
+        taskEventRepository.insertAll(
+            List.of(
+                TaskEventDto.builder()
+                    .teamId(event.getTeamId())
+                    .taskId(event.getTaskId())
+                    .actorId(event.getActorId())
+                    .type(TaskEventType.COMMENTED)
+                    .newValue(String.valueOf(event.getCommentId()))
+                    .build()
+            )
+        );
+    }
+
+    // --- Helper Methods ---
+
+    private void addFieldChange(
+        List<TaskEventDto> events,
+        TasksChangedEvent event,
+        TaskSnapshot before,
+        TaskSnapshot after,
+        String field,
+        Function<TaskSnapshot, Object> getter
+    ) {
+        Object oldValue = getter.apply(before);
+        Object newValue = getter.apply(after);
+        if (!Objects.equals(oldValue, newValue)) {
+            events.add(
+                taskEvent(
+                    event,
+                    after,
+                    TaskEventType.UPDATED,
+                    field,
+                    oldValue == null ? null : oldValue.toString(),
+                    newValue == null ? null : newValue.toString()
+                )
+            );
+        }
+    }
+
+    private TaskEventDto taskEvent(
+        TasksChangedEvent event,
+        TaskSnapshot task,
+        TaskEventType type,
+        String field,
+        String oldValue,
+        String newValue
+    ) {
+        return TaskEventDto.builder()
+            .teamId(event.getTeamId())
+            .taskId(task.getTaskId())
+            .actorId(event.getActorId())
+            .type(type)
+            .field(field)
+            .oldValue(oldValue)
+            .newValue(newValue)
+            .build();
+    }
+
+    private CursorPageDto<TaskEventDto> toPage(List<TaskEventDto> events, int pageSize) {
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+        return CursorPageDto.<TaskEventDto>builder()
+            .items(events)
+            .hasMore(hasMore)
+            .nextCursor(
+                hasMore
+                    ? new ActivityCursor(events.get(events.size() - 1).getEventId()).encode()
+                    : null
+            )
+            .build();
+    }
+
+    /**
+     * @return The event id to read below; the newest page for a blank cursor.
+     */
+    private long beforeEventId(String cursor) {
+        ActivityCursor decoded = ActivityCursor.decode(cursor);
+        return decoded == null ? Long.MAX_VALUE : decoded.getEventId();
+    }
+
+    private int clampPageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.service;
+
+import com.taskflow.repository.TaskArchiveRepository;
+import com.taskflow.repository.TaskArchiveRepository.MovedTask;
+import com.taskflow.repository.TeamVersionRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves tasks archived longer than app.tasks.cold-storage.min-age out of the
+ * hot tables into cold storage, one short transaction per chunk.
+ * Archived tasks stay readable by id through TaskService.getTaskById.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiver {
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TeamVersionRepository teamVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.cold-storage.min-age:90d}")
+    private Duration minAge;
+
+    @Value("${app.tasks.cold-storage.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Nightly run (see app.tasks.cold-storage.cron).
+     */
+    @Scheduled(cron = "${app.tasks.cold-storage.cron:0 0 4 * * *}")
+    public void archiveScheduled() {
+        archiveOlderThan(LocalDateTime.now().minus(minAge));
+    }
+
+    /**
+     * Moves every task archived before the cutoff, chunk by chunk.
+     * Safe to run concurrently: chunks are row-locked while they move.
+     *
+     * @return The number of tasks moved.
+     */
+    public long archiveOlderThan(LocalDateTime archivedBefore) {
+        long moved = 0;
+        while (true) {
+            List<MovedTask> chunk = transactionTemplate.execute(status -> {
+                List<MovedTask> tasks = taskArchiveRepository.moveChunk(
+                    archivedBefore,
+                    chunkSize
+                );
+                // Archived listings of these teams changed
+                new TreeSet<>(tasks.stream().map(MovedTask::getTeamId).toList())
+                    .forEach(teamVersionRepository::bump);
+                return tasks;
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            moved += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("Moved {} archived tasks to cold storage", moved);
+        return moved;
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.event.TaskCommentedEvent;
+import com.taskflow.event.TasksChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process cache of mapped task board pages, keyed by team.
+ * Only the default board view (no filters) is cached. Each team's entry is
+ * tagged with the team version it was loaded under and is only served to
+ * readers at that version; entries are also dropped after any committed
+ * task or comment write for that team.
+ * Teams are evicted by Caffeine's size-based (W-TinyLFU) policy.
+ *
+ * Metrics: taskflow.board.cache.requests{result=hit|miss},
+ * taskflow.board.cache.evictions and taskflow.board.cache.teams.
+ */
+@Component
+public class TaskBoardCache {
+
+    // Pages cached per team (first pages of different sizes, later pages)
+    private static final int MAX_PAGES_PER_TEAM = 16;
+    private static final TaskFilter DEFAULT_VIEW = new TaskFilter();
+
+    private final Cache<Long, TeamBoard> boards;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public TaskBoardCache(
+        MeterRegistry meterRegistry,
+        @Value("${app.tasks.board-cache.max-teams:1000}") long maxTeams,
+        @Value("${app.tasks.board-cache.ttl:10m}") Duration ttl
+    ) {
+        this.hits = Counter.builder("taskflow.board.cache.requests")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("taskflow.board.cache.requests")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("taskflow.board.cache.evictions")
+            .register(meterRegistry);
+        this.boards = Caffeine.newBuilder()
+            .maximumSize(maxTeams)
+            .expireAfterWrite(ttl)
+            .removalListener((Long teamId, TeamBoard board, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    evictions.increment();
+                }
+            })
+            .build();
+        Gauge.builder("taskflow.board.cache.teams", boards, Cache::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Only the unfiltered board is shared by every member and worth caching.
+     */
+    public boolean isCacheable(TaskFilter filter) {
+        return filter == null || DEFAULT_VIEW.equals(filter);
+    }
+
+    /**
+     * Returns the cached page, or loads and caches it.
+     * A reader at a newer team version replaces the board, so a write is
+     * visible as soon as its version is, even before the commit-time
+     * invalidation runs. A page loaded while the team was invalidated is
+     * returned but not stored, so a read racing a write never re-caches
+     * stale data.
+     *
+     * @param version The team version read in the caller's transaction.
+     */
+    public CursorPageDto<TaskDto> getPage(
+        Long teamId,
+        long version,
+        String cursor,
+        int limit,
+        Supplier<CursorPageDto<TaskDto>> loader
+    ) {
+        TeamBoard board = boards
+            .asMap()
+            .compute(teamId, (id, current) ->
+                current == null || current.version < version
+                    ? new TeamBoard(version)
+                    : current
+            );
+        String pageKey = (cursor == null ? "" : cursor) + "#" + limit;
+
+        CursorPageDto<TaskDto> page = board.version == version
+            ? board.pages.get(pageKey)
+            : null;
+        if (page != null) {
+            hits.increment();
+            return page;
+        }
+
+        misses.increment();
+        page = loader.get();
+        if (
+            boards.getIfPresent(teamId) == board &&
+            board.version == version &&
+            board.pages.size() < MAX_PAGES_PER_TEAM
+        ) {
+            board.pages.putIfAbsent(pageKey, page);
+        }
+        return page;
+    }
+
+    public void invalidate(Long teamId) {
+        boards.invalidate(teamId);
+    }
+
+    @TransactionalEventListener
+    public void onTasksChanged(TasksChangedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    @TransactionalEventListener
+    public void onTaskCommented(TaskCommentedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    /**
+     * The cached pages of one team's board.
+     */
+    private static class TeamBoard {
+
+        private final long version;
+        private final Map<String, CursorPageDto<TaskDto>> pages =
+            new ConcurrentHashMap<>();
+
+        private TeamBoard(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.UserDto;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.TaskRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams a team's tasks as NDJSON or CSV.
+ * Tasks are read forward-only in keyset pages over the listing index.
+ * Each page runs in its own short read-only transaction, so entities are
+ * detached as soon as the page is written and heap use does not depend
+ * on team size. A single MySQL streaming result set was not used because
+ * it blocks the connection for the batched assignee query.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    public static final int EXPORT_PAGE_SIZE = 500;
+
+    private static final String CSV_HEADER =
+        "taskId,teamId,title,description,status,priority,dueDate," +
+        "createdById,createdAt,updatedAt,assigneeIds,commentsCount";
+
+    // Leading characters that make spreadsheets evaluate a cell (CSV injection)
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TaskRepository taskRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Supported export formats, selected with ?format=ndjson|csv.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        public static Format fromParam(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * Checks access up front, before the response is committed.
+     */
+    public void verifyAccess(Long teamId, User user) {
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+    }
+
+    /**
+     * Writes every task matching the filter to the output stream.
+     * Call verifyAccess first; this runs after the response has started.
+     */
+    public void export(
+        Long teamId,
+        TaskFilter filter,
+        Format format,
+        OutputStream out
+    ) throws IOException {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        Writer csvWriter = null;
+        SequenceWriter jsonWriter = null;
+        if (format == Format.CSV) {
+            csvWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            csvWriter.write(CSV_HEADER);
+            csvWriter.write('\n');
+        } else {
+            jsonWriter = objectMapper
+                .writer()
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+        }
+
+        long written = 0;
+        TaskCursor after = null;
+        while (true) {
+            // One short transaction per page; entities are detached when it ends
+            final TaskCursor pageAfter = after;
+            ExportPage page = readOnlyTx.execute(status -> {
+                List<Task> tasks = taskRepository.findTeamTasksPage(
+                    teamId,
+                    filter,
+                    pageAfter,
+                    EXPORT_PAGE_SIZE
+                );
+                Task last = tasks.isEmpty() ? null : tasks.get(tasks.size() - 1);
+                return new ExportPage(
+                    taskService.mapTasksToDtos(tasks),
+                    last == null ? null : new TaskCursor(last.getDueDate(), last.getId())
+                );
+            });
+            Objects.requireNonNull(page);
+
+            for (TaskDto task : page.getTasks()) {
+                if (csvWriter != null) {
+                    csvWriter.write(toCsvLine(task));
+                } else {
+                    jsonWriter.write(task);
+                }
+                written++;
+            }
+
+            if (page.getTasks().size() < EXPORT_PAGE_SIZE) {
+                break;
+            }
+            after = page.getLast();
+        }
+
+        if (csvWriter != null) {
+            csvWriter.flush();
+        } else {
+            jsonWriter.flush();
+            // Terminate the last row; an empty export stays empty
+            if (written > 0) {
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    private String toCsvLine(TaskDto task) {
+        String assigneeIds = task
+            .getAssignees()
+            .stream()
+            .map(UserDto::getUserId)
+            .sorted()
+            .map(String::valueOf)
+            .collect(Collectors.joining(" "));
+
+        return String.join(
+            ",",
+            String.valueOf(task.getTaskId()),
+            String.valueOf(task.getTeamId()),
+            csvField(task.getTitle()),
+            csvField(task.getDescription()),
+            String.valueOf(task.getStatus()),
+            String.valueOf(task.getPriority()),
+            csvField(task.getDueDate()),
+            String.valueOf(task.getCreatedBy().getUserId()),
+            csvField(task.getCreatedAt()),
+            csvField(task.getUpdatedAt()),
+            assigneeIds,
+            String.valueOf(task.getCommentsCount())
+        ) + "\n";
+    }
+
+    /**
+     * Quotes a CSV field (RFC 4180) when it contains separators or quotes.
+     * Text a spreadsheet would run as a formula (leading =, +, -, @, tab or
+     * CR) is prefixed with ' so it opens as plain text.
+     */
+    private String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (
+            text.contains(",") ||
+            text.contains("\"") ||
+            text.contains("\n") ||
+            text.contains("\r")
+        ) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ExportPage {
+
+        private final List<TaskDto> tasks;
+        private final TaskCursor last;
+    }
+}
@@ -0,0 +1,413 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskflow.dto.ImportRowError;
+import com.taskflow.dto.ImportTaskRow;
+import com.taskflow.dto.TaskImportSummary;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.Team;
+import com.taskflow.entity.User;
+import com.taskflow.event.TaskChange;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.repository.TaskBatchRepository;
+import com.taskflow.repository.TeamRepository;
+import com.taskflow.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams an NDJSON task import into the database.
+ * The body is read line by line and rows are written in chunks, each chunk
+ * in its own transaction with JDBC batching, so memory use does not
+ * depend on file size. A failed chunk stops the import; the summary says
+ * where to resume.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    public static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    // Longer lines are skipped unread, so one huge "row" cannot exhaust memory
+    static final int MAX_ROW_CHARS = 256 * 1024;
+
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+    private final TaskBatchRepository taskBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Imports tasks from an NDJSON stream (one JSON object per line).
+     *
+     * @param teamId   The team every imported task belongs to.
+     * @param body     The raw request body.
+     * @param startRow Number of leading rows to skip (to resume a previous import).
+     * @param user     The authenticated user, recorded as the tasks' creator.
+     */
+    public TaskImportSummary importTasks(
+        Long teamId,
+        InputStream body,
+        long startRow,
+        User user
+    ) throws IOException {
+        // 1. Validate team exists and user is a member
+        Team team = teamRepository
+            .findById(teamId)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("Team", "id", teamId)
+            );
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+
+        ImportProgress progress = new ImportProgress(startRow);
+        ObjectReader rowReader = objectMapper.readerFor(ImportTaskRow.class);
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        // 2. Stream rows, validating each and writing full chunks
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8)
+            )
+        ) {
+            BoundedLineReader lines = new BoundedLineReader(reader, MAX_ROW_CHARS);
+            long rowNumber = 0;
+            while (lines.next()) {
+                rowNumber++;
+                if (rowNumber <= startRow) {
+                    continue; // Already handled by a previous import
+                }
+                String line = lines.line();
+                if (line.isBlank() && !lines.isTooLong()) {
+                    continue;
+                }
+                progress.rowsRead++;
+                if (lines.isTooLong()) {
+                    progress.fail(rowNumber, "Row exceeds " + MAX_ROW_CHARS + " characters");
+                    continue;
+                }
+
+                ImportTaskRow row = parseAndValidate(rowReader, line, rowNumber, progress);
+                if (row != null) {
+                    chunk.add(new PendingRow(rowNumber, row));
+                }
+
+                if (chunk.size() >= CHUNK_SIZE) {
+                    if (!writeChunk(chunk, team, user, progress)) {
+                        return progress.toSummary(false);
+                    }
+                    progress.committedRow = rowNumber;
+                    chunk.clear();
+                }
+            }
+
+            // 3. Write the final partial chunk
+            if (!chunk.isEmpty() && !writeChunk(chunk, team, user, progress)) {
+                return progress.toSummary(false);
+            }
+            progress.committedRow = Math.max(progress.committedRow, rowNumber);
+        }
+
+        log.info(
+            "Imported {} tasks into team {} ({} rows failed)",
+            progress.imported,
+            teamId,
+            progress.failed
+        );
+        return progress.toSummary(true);
+    }
+
+    private ImportTaskRow parseAndValidate(
+        ObjectReader rowReader,
+        String line,
+        long rowNumber,
+        ImportProgress progress
+    ) {
+        ImportTaskRow row;
+        try {
+            row = rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.fail(rowNumber, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<ImportTaskRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            String message = violations
+                .stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            progress.fail(rowNumber, message);
+            return null;
+        }
+        return row;
+    }
+
+    /**
+     * Resolves assignees for the chunk in two queries and inserts it in one
+     * transaction.
+     *
+     * @return false if the chunk could not be written (import must stop).
+     */
+    private boolean writeChunk(
+        List<PendingRow> chunk,
+        Team team,
+        User creator,
+        ImportProgress progress
+    ) {
+        // 1. Resolve every assignee id and email in the chunk in one query each
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingRow pending : chunk) {
+            if (pending.row.getAssigneeIds() != null) {
+                ids.addAll(pending.row.getAssigneeIds());
+            }
+            if (pending.row.getAssigneeEmails() != null) {
+                emails.addAll(pending.row.getAssigneeEmails());
+            }
+        }
+        Map<Long, User> usersById = ids.isEmpty()
+            ? Map.of()
+            : userRepository
+                .findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, User> usersByEmail = emails.isEmpty()
+            ? Map.of()
+            : userRepository
+                .findByEmailIn(emails)
+                .stream()
+                .collect(
+                    Collectors.toMap(
+                        u -> u.getEmail().toLowerCase(),
+                        Function.identity()
+                    )
+                );
+
+        // 2. Build tasks, rejecting rows that reference unknown users
+        List<Task> tasks = new ArrayList<>(chunk.size());
+        List<PendingRow> written = new ArrayList<>(chunk.size());
+        for (PendingRow pending : chunk) {
+            Set<User> assignees = resolveAssignees(
+                pending,
+                usersById,
+                usersByEmail,
+                progress
+            );
+            if (assignees == null) {
+                continue;
+            }
+            ImportTaskRow row = pending.row;
+            written.add(pending);
+            tasks.add(
+                Task.builder()
+                    .team(team)
+                    .title(row.getTitle())
+                    .description(row.getDescription())
+                    .status(row.getStatus())
+                    .priority(row.getPriority())
+                    .dueDate(row.getDueDate())
+                    .createdBy(creator)
+                    .assignees(assignees)
+                    .build()
+            );
+        }
+
+        // 3. Insert the chunk (and announce it) in its own transaction
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (tasks.isEmpty()) {
+                    return;
+                }
+                taskBatchRepository.insertAll(tasks);
+                eventPublisher.publishEvent(
+                    new TasksChangedEvent(
+                        team.getId(),
+                        creator.getId(),
+                        tasks
+                            .stream()
+                            .map(task -> TaskChange.created(TaskSnapshot.of(task)))
+                            .collect(Collectors.toList())
+                    )
+                );
+            });
+        } catch (RuntimeException e) {
+            log.warn("Task import chunk failed: {}", e.getMessage());
+            for (PendingRow pending : written) {
+                progress.fail(pending.rowNumber, "Chunk write failed: " + e.getMessage());
+            }
+            return false;
+        }
+        progress.imported += tasks.size();
+        return true;
+    }
+
+    /**
+     * @return The row's assignees, or null if any reference is unknown.
+     */
+    private Set<User> resolveAssignees(
+        PendingRow pending,
+        Map<Long, User> usersById,
+        Map<String, User> usersByEmail,
+        ImportProgress progress
+    ) {
+        Set<User> assignees = new HashSet<>();
+        if (pending.row.getAssigneeIds() != null) {
+            for (Long id : pending.row.getAssigneeIds()) {
+                User user = usersById.get(id);
+                if (user == null) {
+                    progress.fail(pending.rowNumber, "Unknown assignee id: " + id);
+                    return null;
+                }
+                assignees.add(user);
+            }
+        }
+        if (pending.row.getAssigneeEmails() != null) {
+            for (String email : pending.row.getAssigneeEmails()) {
+                User user = usersByEmail.get(email.toLowerCase());
+                if (user == null) {
+                    progress.fail(pending.rowNumber, "Unknown assignee email: " + email);
+                    return null;
+                }
+                assignees.add(user);
+            }
+        }
+        return assignees;
+    }
+
+    // --- Helper Types ---
+
+    /**
+     * Splits the body on '\n' (dropping a trailing '\r') without ever
+     * holding more than maxChars characters of a line.
+     */
+    static class BoundedLineReader {
+
+        private final Reader reader;
+        private final int maxChars;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        BoundedLineReader(Reader reader, int maxChars) {
+            this.reader = reader;
+            this.maxChars = maxChars;
+        }
+
+        /**
+         * Advances to the next line.
+         *
+         * @return false at the end of the input.
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            // One spare character for a '\r' before the '\n'
+            while (c != -1 && c != '\n') {
+                if (line.length() <= maxChars) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            if (line.length() > maxChars) {
+                tooLong = true;
+            }
+            return true;
+        }
+
+        /**
+         * The current line; empty when it was too long.
+         */
+        String line() {
+            return tooLong ? "" : line.toString();
+        }
+
+        boolean isTooLong() {
+            return tooLong;
+        }
+    }
+
+    /**
+     * A parsed, valid row waiting for its chunk to be written.
+     */
+    @AllArgsConstructor
+    private static class PendingRow {
+
+        private final long rowNumber;
+        private final ImportTaskRow row;
+    }
+
+    /**
+     * Running totals for one import. Keeps at most MAX_REPORTED_ERRORS errors.
+     */
+    private static class ImportProgress {
+
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+        private long committedRow;
+        private boolean errorsTruncated;
+
+        ImportProgress(long startRow) {
+            this.committedRow = startRow;
+        }
+
+        void fail(long rowNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(rowNumber, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        TaskImportSummary toSummary(boolean completed) {
+            return TaskImportSummary.builder()
+                .rowsRead(rowsRead)
+                .imported(imported)
+                .failed(failed)
+                .resumeFromRow(committedRow)
+                .completed(completed)
+                .errors(errors)
+                .errorsTruncated(errorsTruncated)
+                .build();
+        }
+    }
+}
@@ -1,26 +1,52 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.BulkTaskResult;
+import com.taskflow.dto.BulkTaskUpdate;
+import com.taskflow.dto.BulkUpdateTasksRequest;
+import com.taskflow.dto.BulkUpdateTasksResponse;
+import com.taskflow.dto.ChangeCursor;
 import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.PageDto;
+import com.taskflow.dto.TaskChangesDto;
+import com.taskflow.dto.TaskCursor;
 import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskFilter;
 import com.taskflow.dto.UpdateTaskRequest;
 import com.taskflow.dto.UserDto;
+import com.taskflow.entity.Notification;
 import com.taskflow.entity.NotificationType;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.Team;
 import com.taskflow.entity.User;
-import com.taskflow.exception.AccessDeniedException;
+import com.taskflow.event.TaskChange;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.GoneException;
 import com.taskflow.exception.ResourceNotFoundException;
-import com.taskflow.repository.CommentRepository;
+import com.taskflow.repository.TaskArchiveRepository;
+import com.taskflow.repository.TaskAssigneeRow;
 import com.taskflow.repository.TaskRepository;
 import com.taskflow.repository.TeamRepository;
+import com.taskflow.repository.TeamVersionRepository;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.repository.UserTeamRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +54,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    // Ranked search is offset-paginated; deep pages are not useful
+    public static final int MAX_SEARCH_WINDOW = 1000;
+    // Delta sync only returns rows whose updated_at is at least this old
+    static final Duration CHANGES_SETTLE_LAG = Duration.ofSeconds(10);
+
     private final TaskRepository taskRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final UserTeamRepository userTeamRepository;
-    private final CommentRepository commentRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
     private final NotificationService notificationService;
+    private final TaskBoardCache taskBoardCache;
+    private final TeamVersionRepository teamVersionRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // TaskArchiver deletes tombstones older than this from the hot tables
+    @Value("${app.tasks.cold-storage.min-age:90d}")
+    private Duration tombstoneRetention;
 
     /**
      * Creates a new task.
@@ -71,23 +112,267 @@ public class TaskService {
             .build();
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(
+            TasksChangedEvent.of(
+                team.getId(),
+                creator.getId(),
+                TaskChange.created(TaskSnapshot.of(savedTask))
+            )
+        );
         return mapTaskToDto(savedTask);
     }
 
     /**
-     * Gets all tasks for a given team.
+     * Gets one keyset page of a team's tasks, ordered by due date.
+     *
+     * @param teamId The team to list.
+     * @param filter Optional server-side filters.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  Requested page size (clamped to MAX_PAGE_SIZE).
+     * @param user   The authenticated user.
      */
     @Transactional(readOnly = true)
-    public List<TaskDto> getTasksForTeam(Long teamId, User user) {
+    public CursorPageDto<TaskDto> getTasksForTeam(
+        Long teamId,
+        TaskFilter filter,
+        String cursor,
+        int limit,
+        User user
+    ) {
         // 1. Validate user is a member of the team
-        verifyTeamMembership(teamId, user.getId());
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // 2. The unfiltered board is shared by all members, so serve it from cache.
+        // The version and the rows are read in the same snapshot.
+        if (taskBoardCache.isCacheable(filter)) {
+            long version = teamVersionRepository.findVersion(teamId);
+            return taskBoardCache.getPage(teamId, version, cursor, pageSize, () ->
+                loadTeamTasksPage(teamId, filter, cursor, pageSize)
+            );
+        }
+        return loadTeamTasksPage(teamId, filter, cursor, pageSize);
+    }
 
-        // 2. Fetch and map tasks
-        List<Task> tasks = taskRepository.findByTeamIdOrderByDueDateAsc(teamId);
-        return tasks
+    private CursorPageDto<TaskDto> loadTeamTasksPage(
+        Long teamId,
+        TaskFilter filter,
+        String cursor,
+        int pageSize
+    ) {
+        // Fetch one extra row to know whether another page exists
+        List<Task> tasks = taskRepository.findTeamTasksPage(
+            teamId,
+            filter,
+            TaskCursor.decode(cursor),
+            pageSize + 1
+        );
+        return toCursorPage(tasks, pageSize);
+    }
+
+    /**
+     * Gets one keyset page of the caller's assigned tasks across all their
+     * teams, ordered by due date.
+     *
+     * @param filter Optional filters; assigneeId is ignored.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  Requested page size (clamped to MAX_PAGE_SIZE).
+     * @param user   The authenticated user.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskDto> getMyTasks(
+        TaskFilter filter,
+        String cursor,
+        int limit,
+        User user
+    ) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskFilter assignedFilter = filter == null ? new TaskFilter() : filter;
+        assignedFilter.setAssigneeId(null);
+
+        // Team membership is enforced inside the query
+        List<Task> tasks = taskRepository.findAssignedTasksPage(
+            user.getId(),
+            assignedFilter,
+            TaskCursor.decode(cursor),
+            pageSize + 1
+        );
+        return toCursorPage(tasks, pageSize);
+    }
+
+    /**
+     * Maps up to pageSize + 1 keyset rows into a page with a next cursor.
+     */
+    private CursorPageDto<TaskDto> toCursorPage(List<Task> tasks, int pageSize) {
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        // Map the page with a constant number of queries
+        List<TaskDto> items = mapTasksToDtos(tasks);
+
+        Task last = tasks.isEmpty() ? null : tasks.get(tasks.size() - 1);
+        return CursorPageDto.<TaskDto>builder()
+            .items(items)
+            .hasMore(hasMore)
+            .nextCursor(
+                hasMore
+                    ? new TaskCursor(last.getDueDate(), last.getId()).encode()
+                    : null
+            )
+            .build();
+    }
+
+    /**
+     * Gets a team's tasks created, updated or archived after a sync cursor,
+     * ordered by (updated_at, task_id).
+     * Rows newer than CHANGES_SETTLE_LAG are held back: updated_at is stamped
+     * before commit, so a fresh row may still be joined by an older-stamped
+     * one that commits later and would otherwise fall behind the cursor.
+     *
+     * A cursor older than app.tasks.cold-storage.min-age is refused: tasks
+     * archived since then may already have moved to cold storage, and their
+     * tombstones with them.
+     *
+     * @param since The nextCursor of the previous call, or null for a full sync.
+     * @throws GoneException if the cursor is too old; the client must
+     *         discard its copy and do a full sync.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDto getTaskChanges(
+        Long teamId,
+        String since,
+        int limit,
+        User user
+    ) {
+        // 1. Validate user is a member of the team
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        ChangeCursor after = ChangeCursor.decode(since);
+        if (
+            after != null &&
+            after.getUpdatedAt().isBefore(LocalDateTime.now().minus(tombstoneRetention))
+        ) {
+            throw new GoneException("Sync cursor has expired, please do a full sync");
+        }
+
+        // 2. Fetch one extra row to know whether another page exists
+        LocalDateTime settledBefore = LocalDateTime.now()
+            .minus(CHANGES_SETTLE_LAG)
+            .truncatedTo(ChronoUnit.SECONDS);
+        List<Task> tasks = taskRepository.findTeamTaskChanges(
+            teamId,
+            after,
+            settledBefore,
+            pageSize + 1
+        );
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        // 3. Archived tasks left the visible set: report them as tombstones
+        List<Task> visible = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.isArchived()) {
+                removed.add(task.getId());
+            } else {
+                visible.add(task);
+            }
+        }
+
+        // 4. An empty page moves the caller up to the settled point (nothing
+        // before it is left unseen), so idle teams' cursors do not age out
+        Task last = tasks.isEmpty() ? null : tasks.get(tasks.size() - 1);
+        String nextCursor = last != null
+            ? new ChangeCursor(last.getUpdatedAt(), last.getId()).encode()
+            : (after != null ? new ChangeCursor(settledBefore, 0L).encode() : null);
+        return TaskChangesDto.builder()
+            .changed(mapTasksToDtos(visible))
+            .removedTaskIds(removed)
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * Full-text search over task titles and descriptions, ranked by relevance.
+     * Scoped to one team if teamId is given, otherwise to all the caller's teams.
+     */
+    @Transactional(readOnly = true)
+    public PageDto<TaskDto> searchTasks(
+        String query,
+        Long teamId,
+        int page,
+        int size,
+        User user
+    ) {
+        // 1. Validate input and resolve the teams to search
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query cannot be blank");
+        }
+        if (query.length() > 200) {
+            throw new BadRequestException("Search query is too long");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int offset = Math.max(page, 0) * pageSize;
+        if (offset + pageSize > MAX_SEARCH_WINDOW) {
+            throw new BadRequestException(
+                "Search results are limited to the first " + MAX_SEARCH_WINDOW
+            );
+        }
+
+        List<Long> teamIds;
+        if (teamId != null) {
+            membershipAuthorizer.verifyMember(teamId, user.getId());
+            teamIds = List.of(teamId);
+        } else {
+            teamIds = userTeamRepository
+                .findByUserId(user.getId())
+                .stream()
+                .map(membership -> membership.getTeam().getId())
+                .collect(Collectors.toList());
+        }
+        if (teamIds.isEmpty()) {
+            return PageDto.<TaskDto>builder()
+                .items(List.of())
+                .page(page)
+                .size(pageSize)
+                .build();
+        }
+
+        // 2. Rank matching ids with the FULLTEXT index (one extra row for hasMore)
+        List<Long> rankedIds = taskRepository
+            .searchByText(query.trim(), teamIds, pageSize + 1, offset)
+            .stream()
+            .map(TaskRepository.TaskSearchHit::getTaskId)
+            .collect(Collectors.toList());
+        boolean hasMore = rankedIds.size() > pageSize;
+        if (hasMore) {
+            rankedIds = rankedIds.subList(0, pageSize);
+        }
+
+        // 3. Load and map the page, then restore rank order
+        List<Task> tasks = rankedIds.isEmpty()
+            ? List.of()
+            : taskRepository.findWithCreatorByIdIn(rankedIds);
+        Map<Long, TaskDto> dtosById = mapTasksToDtos(tasks)
             .stream()
-            .map(this::mapTaskToDto)
+            .collect(Collectors.toMap(TaskDto::getTaskId, Function.identity()));
+        List<TaskDto> items = rankedIds
+            .stream()
+            .map(dtosById::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
+
+        return PageDto.<TaskDto>builder()
+            .items(items)
+            .page(page)
+            .size(pageSize)
+            .hasMore(hasMore)
+            .build();
     }
 
     /**
@@ -95,15 +380,16 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public TaskDto getTaskById(Long taskId, User user) {
-        // 1. Find the task
+        // 1. Find the task, falling back to cold storage
         Task task = taskRepository
             .findById(taskId)
+            .or(() -> taskArchiveRepository.findTask(taskId))
             .orElseThrow(() ->
                 new ResourceNotFoundException("Task", "id", taskId)
             );
 
         // 2. Verify user is a member of the task's team
-        verifyTeamMembership(task.getTeam().getId(), user.getId());
+        membershipAuthorizer.verifyMember(task.getTeam().getId(), user.getId());
 
         // 3. Map and return
         return mapTaskToDto(task);
@@ -126,9 +412,192 @@ public class TaskService {
             );
 
         // 2. Verify user is a member of the task's team
-        verifyTeamMembership(task.getTeam().getId(), user.getId());
+        membershipAuthorizer.verifyMember(task.getTeam().getId(), user.getId());
+
+        // 3. Apply partial updates and collect the resulting notifications
+        TaskSnapshot before = TaskSnapshot.of(task);
+        List<Notification> notifications = new ArrayList<>();
+        applyUpdate(
+            task,
+            request,
+            user,
+            assigneeIds -> new HashSet<>(userRepository.findAllById(assigneeIds)),
+            notifications
+        );
+        notificationService.saveInBatch(notifications);
+
+        Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(
+            TasksChangedEvent.of(
+                updatedTask.getTeam().getId(),
+                user.getId(),
+                new TaskChange(before, TaskSnapshot.of(updatedTask))
+            )
+        );
+        return mapTaskToDto(updatedTask);
+    }
+
+    /**
+     * Applies many partial updates in one transaction.
+     * Tasks are loaded in one query, membership is checked once per team
+     * and assignees are resolved in one query. Task rows are flushed in JDBC
+     * batches (hibernate.jdbc.batch_size) and notifications are inserted in
+     * one batch. Items that fail (unknown task, not a member, duplicate)
+     * are reported and skipped; the rest are applied.
+     */
+    @Transactional
+    public BulkUpdateTasksResponse bulkUpdateTasks(
+        BulkUpdateTasksRequest request,
+        User user
+    ) {
+        List<BulkTaskUpdate> updates = request.getUpdates();
+
+        // 1. Load every affected task (with creator and assignees) in one query
+        Set<Long> taskIds = updates
+            .stream()
+            .map(BulkTaskUpdate::getTaskId)
+            .collect(Collectors.toSet());
+        Map<Long, Task> tasksById = taskRepository
+            .findWithAssigneesByIdIn(taskIds)
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // 2. Check membership once per team
+        Set<Long> memberTeamIds = tasksById
+            .values()
+            .stream()
+            .map(task -> task.getTeam().getId())
+            .distinct()
+            .filter(teamId -> membershipAuthorizer.isMember(teamId, user.getId()))
+            .collect(Collectors.toSet());
+
+        // 3. Resolve every referenced assignee in one query
+        Set<Long> assigneeIds = updates
+            .stream()
+            .map(update -> update.getChanges().getAssigneeIds())
+            .filter(Objects::nonNull)
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet());
+        Map<Long, User> usersById = assigneeIds.isEmpty()
+            ? Map.of()
+            : userRepository
+                .findAllById(assigneeIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 4. Apply each update in request order
+        List<BulkTaskResult> results = new ArrayList<>(updates.size());
+        List<Notification> notifications = new ArrayList<>();
+        Map<Long, List<TaskChange>> changesByTeam = new HashMap<>();
+        Set<Long> seenTaskIds = new HashSet<>();
+        int succeeded = 0;
+
+        for (BulkTaskUpdate update : updates) {
+            Long taskId = update.getTaskId();
+            Task task = tasksById.get(taskId);
+            String error = null;
+
+            if (!seenTaskIds.add(taskId)) {
+                error = "Task appears more than once in this request";
+            } else if (task == null) {
+                error = "Task not found";
+            } else if (!memberTeamIds.contains(task.getTeam().getId())) {
+                error = "User is not a member of this team";
+            } else {
+                TaskSnapshot before = TaskSnapshot.of(task);
+                applyUpdate(
+                    task,
+                    update.getChanges(),
+                    user,
+                    ids ->
+                        ids
+                            .stream()
+                            .map(usersById::get)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()),
+                    notifications
+                );
+                changesByTeam
+                    .computeIfAbsent(task.getTeam().getId(), id -> new ArrayList<>())
+                    .add(new TaskChange(before, TaskSnapshot.of(task)));
+                succeeded++;
+            }
 
-        // 3. Apply partial updates (only non-null fields from request)
+            results.add(
+                BulkTaskResult.builder()
+                    .taskId(taskId)
+                    .success(error == null)
+                    .error(error)
+                    .build()
+            );
+        }
+
+        // 5. Write task changes in JDBC batches, then all notifications at once
+        taskRepository.flush();
+        notificationService.saveInBatch(notifications);
+        changesByTeam.forEach((teamId, changes) ->
+            eventPublisher.publishEvent(
+                new TasksChangedEvent(teamId, user.getId(), changes)
+            )
+        );
+
+        return BulkUpdateTasksResponse.builder()
+            .succeeded(succeeded)
+            .failed(updates.size() - succeeded)
+            .results(results)
+            .build();
+    }
+
+    /**
+     * Deletes (soft-deletes) a task.
+     */
+    @Transactional
+    public void deleteTask(Long taskId, User user) {
+        Task task = taskRepository
+            .findById(taskId)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("Task", "id", taskId)
+            );
+
+        // Verify membership
+        membershipAuthorizer.verifyMember(task.getTeam().getId(), user.getId());
+
+        // TODO: Add role check (e.g., only ADMIN or task creator can delete)
+
+        // Soft delete
+        TaskSnapshot before = TaskSnapshot.of(task);
+        if (!task.isArchived()) {
+            task.setArchivedAt(LocalDateTime.now());
+        }
+        task.setArchived(true);
+        task.setStatus(com.taskflow.entity.TaskStatus.ARCHIVED);
+        taskRepository.save(task);
+        eventPublisher.publishEvent(
+            TasksChangedEvent.of(
+                task.getTeam().getId(),
+                user.getId(),
+                new TaskChange(before, TaskSnapshot.of(task))
+            )
+        );
+    }
+
+    // --- Helper & Security Methods ---
+
+    /**
+     * Applies UpdateTaskRequest semantics to a managed task.
+     * Shared by the single and bulk update paths.
+     *
+     * @param assigneeResolver Resolves assignee ids to users (single query or pre-loaded map).
+     * @param notifications    Collects notifications to be saved by the caller.
+     */
+    private void applyUpdate(
+        Task task,
+        UpdateTaskRequest request,
+        User user,
+        Function<Set<Long>, Set<User>> assigneeResolver,
+        List<Notification> notifications
+    ) {
+        // Apply partial updates (only non-null fields from request)
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
         }
@@ -141,12 +610,16 @@ public class TaskService {
         if (request.getDueDate() != null) {
             task.setDueDate(request.getDueDate());
         }
-        if (request.getArchived() != null) {
+        if (
+            request.getArchived() != null &&
+            request.getArchived() != task.isArchived()
+        ) {
             task.setArchived(request.getArchived());
+            task.setArchivedAt(request.getArchived() ? LocalDateTime.now() : null);
         }
 
         // --- Notification Logic ---
-        // 2. Check if assignees are being changed
+        // 1. Check if assignees are being changed
         if (request.getAssigneeIds() != null) {
             Set<Long> oldAssigneeIds = task
                 .getAssignees()
@@ -155,7 +628,7 @@ public class TaskService {
                 .collect(Collectors.toSet());
 
             Set<User> newAssignees = new HashSet<>(
-                userRepository.findAllById(request.getAssigneeIds())
+                assigneeResolver.apply(request.getAssigneeIds())
             );
 
             // Find newly added assignees
@@ -165,19 +638,23 @@ public class TaskService {
                 .collect(Collectors.toSet());
 
             if (!addedAssignees.isEmpty()) {
-                notificationService.createNotifications(
-                    addedAssignees,
-                    task,
-                    NotificationType.TASK_ASSIGNED,
-                    user.getName() +
-                        " assigned you to the task: " +
-                        task.getTitle()
+                notifications.addAll(
+                    notificationService.buildNotifications(
+                        addedAssignees,
+                        task,
+                        NotificationType.TASK_ASSIGNED,
+                        user.getName() +
+                            " assigned you to the task: " +
+                            task.getTitle()
+                    )
                 );
             }
             task.setAssignees(newAssignees);
+            // A collection-only change does not dirty the row; touch it for delta sync
+            task.setUpdatedAt(LocalDateTime.now());
         }
 
-        // 3. Check if status is changing
+        // 2. Check if status is changing
         if (
             request.getStatus() != null &&
             !Objects.equals(task.getStatus(), request.getStatus())
@@ -195,74 +672,81 @@ public class TaskService {
             toNotify.add(task.getCreatedBy());
             toNotify.remove(user); // Don't notify the user who made the change
 
-            notificationService.createNotifications(
-                toNotify,
-                task,
-                NotificationType.TASK_STATUS_CHANGED,
-                statusMessage
+            notifications.addAll(
+                notificationService.buildNotifications(
+                    toNotify,
+                    task,
+                    NotificationType.TASK_STATUS_CHANGED,
+                    statusMessage
+                )
             );
             task.setStatus(request.getStatus());
         }
 
         // --- End Notification Logic ---
-
-        Task updatedTask = taskRepository.save(task);
-        return mapTaskToDto(updatedTask);
-    }
-
-    /**
-     * Deletes (soft-deletes) a task.
-     */
-    @Transactional
-    public void deleteTask(Long taskId, User user) {
-        Task task = taskRepository
-            .findById(taskId)
-            .orElseThrow(() ->
-                new ResourceNotFoundException("Task", "id", taskId)
-            );
-
-        // Verify membership
-        verifyTeamMembership(task.getTeam().getId(), user.getId());
-
-        // TODO: Add role check (e.g., only ADMIN or task creator can delete)
-
-        // Soft delete
-        task.setArchived(true);
-        task.setStatus(com.taskflow.entity.TaskStatus.ARCHIVED);
-        taskRepository.save(task);
     }
 
-    // --- Helper & Security Methods ---
-
     private Team getTeamAndVerifyMembership(Long teamId, Long userId) {
         Team team = teamRepository
             .findById(teamId)
             .orElseThrow(() ->
                 new ResourceNotFoundException("Team", "id", teamId)
             );
-        verifyTeamMembership(teamId, userId);
+        membershipAuthorizer.verifyMember(teamId, userId);
         return team;
     }
 
-    private void verifyTeamMembership(Long teamId, Long userId) {
-        if (
-            !userTeamRepository
-                .findByUserIdAndTeamId(userId, teamId)
-                .isPresent()
-        ) {
-            throw new AccessDeniedException(
-                "User is not a member of this team"
-            );
+
+    /**
+     * Maps a page of tasks to DTOs with one extra query for all assignees.
+     * The tasks' creators must already be fetched (see findTeamTasksPage).
+     */
+    public List<TaskDto> mapTasksToDtos(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
         }
+        Map<Long, Set<UserDto>> assigneesByTask = findAssigneesByTask(tasks);
+
+        return tasks
+            .stream()
+            .map(task ->
+                mapTaskToDto(
+                    task,
+                    assigneesByTask.getOrDefault(task.getId(), Set.of())
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads assignees for a page of tasks with a single query.
+     */
+    private Map<Long, Set<UserDto>> findAssigneesByTask(List<Task> tasks) {
+        List<Long> taskIds = tasks
+            .stream()
+            .map(Task::getId)
+            .collect(Collectors.toList());
+        return taskRepository
+            .findAssigneeRowsByTaskIds(taskIds)
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    TaskAssigneeRow::getTaskId,
+                    Collectors.mapping(this::mapAssigneeRowToDto, Collectors.toSet())
+                )
+            );
     }
 
     public TaskDto mapTaskToDto(Task task) {
-        // This is an N+1 query. A more optimized solution would use
-        // a JPA projection or @Formula. For MVP, this is acceptable.
-        int commentsCount = commentRepository
-            .findByTaskIdOrderByCreatedAtAsc(task.getId())
-            .size();
+        Set<UserDto> assignees = task
+            .getAssignees()
+            .stream()
+            .map(this::mapUserToDto)
+            .collect(Collectors.toSet());
+        return mapTaskToDto(task, assignees);
+    }
 
+    private TaskDto mapTaskToDto(Task task, Set<UserDto> assignees) {
         return TaskDto.builder()
             .taskId(task.getId())
             .teamId(task.getTeam().getId())
@@ -274,14 +758,19 @@ public class TaskService {
             .createdBy(mapUserToDto(task.getCreatedBy()))
             .createdAt(task.getCreatedAt())
             .updatedAt(task.getUpdatedAt())
-            .assignees(
-                task
-                    .getAssignees()
-                    .stream()
-                    .map(this::mapUserToDto)
-                    .collect(Collectors.toSet())
-            )
-            .commentsCount(commentsCount)
+            .assignees(assignees)
+            .commentsCount(task.getCommentsCount())
+            .build();
+    }
+
+    private UserDto mapAssigneeRowToDto(TaskAssigneeRow row) {
+        return UserDto.builder()
+            .userId(row.getUserId())
+            .name(row.getName())
+            .email(row.getEmail())
+            .status(row.getStatus())
+            .avatarUrl(row.getAvatarUrl())
+            .createdAt(row.getCreatedAt())
             .build();
     }
 
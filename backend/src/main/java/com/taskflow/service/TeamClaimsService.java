@@ -0,0 +1,118 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserTeam;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.repository.UserTeamRepository;
+import io.jsonwebtoken.Claims;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds and reads the team membership claims of access tokens.
+ *
+ * "tms" holds the user's teams as "teamId:roleCode" pairs ("12:A,15:M");
+ * "mv" holds the user's membership_version at issue time. Every membership
+ * change bumps the version in the same transaction, so claims from a token
+ * issued before the change no longer match and are ignored.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamClaimsService {
+
+    public static final String TEAMS_CLAIM = "tms";
+    public static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+
+    // ROLE_ADMIN -> "A", ROLE_MEMBER -> "M", ROLE_VIEWER -> "V"
+    private static final Map<TeamRole, String> ROLE_CODES = Arrays.stream(
+        TeamRole.values()
+    ).collect(
+        Collectors.toUnmodifiableMap(Function.identity(), role ->
+            role.name().substring("ROLE_".length(), "ROLE_".length() + 1)
+        )
+    );
+    private static final Map<String, TeamRole> ROLES_BY_CODE = ROLE_CODES.entrySet()
+        .stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getValue, Map.Entry::getKey));
+
+    private final UserTeamRepository userTeamRepository;
+    private final UserRepository userRepository;
+
+    @Value("${app.jwt.embed-team-claims:false}")
+    private boolean enabled;
+
+    @Value("${app.jwt.max-team-claims:200}")
+    private int maxTeams;
+
+    /**
+     * Claims to embed in a new access token; empty when disabled or when the
+     * user belongs to too many teams for a compact token.
+     */
+    public Map<String, Object> buildClaims(User user) {
+        if (!enabled) {
+            return new HashMap<>();
+        }
+        List<UserTeam> memberships = userTeamRepository.findByUserId(user.getId());
+        if (memberships.size() > maxTeams) {
+            return new HashMap<>();
+        }
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(
+            TEAMS_CLAIM,
+            memberships
+                .stream()
+                .map(membership ->
+                    membership.getTeam().getId() + ":" + ROLE_CODES.get(membership.getRole())
+                )
+                .collect(Collectors.joining(","))
+        );
+        claims.put(MEMBERSHIP_VERSION_CLAIM, user.getMembershipVersion());
+        return claims;
+    }
+
+    /**
+     * Reads the team roles from verified token claims.
+     *
+     * @return teamId -> role, or null if the token has no team claims or was
+     *         issued at an older membership version than 'user' has now.
+     */
+    public Map<Long, TeamRole> readTeamRoles(Claims claims, User user) {
+        String encoded = claims.get(TEAMS_CLAIM, String.class);
+        Long version = claims.get(MEMBERSHIP_VERSION_CLAIM, Long.class);
+        if (encoded == null || version == null || version != user.getMembershipVersion()) {
+            return null;
+        }
+        if (encoded.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, TeamRole> roles = new HashMap<>();
+        for (String pair : encoded.split(",")) {
+            int idx = pair.indexOf(':');
+            TeamRole role = idx > 0 ? ROLES_BY_CODE.get(pair.substring(idx + 1)) : null;
+            if (role == null) {
+                return null; // Unknown encoding: fall back to the database
+            }
+            roles.put(Long.parseLong(pair.substring(0, idx)), role);
+        }
+        return Collections.unmodifiableMap(roles);
+    }
+
+    /**
+     * Runs in the membership-changing transaction.
+     */
+    @EventListener
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        userRepository.incrementMembershipVersion(event.getUserId());
+    }
+}
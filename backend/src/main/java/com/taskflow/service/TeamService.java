@@ -9,9 +9,9 @@ import com.taskflow.dto.UserDto;
 import com.taskflow.entity.Invitation;
 import com.taskflow.entity.Team;
 import com.taskflow.entity.TeamRole;
-import com.taskflow.entity.TeamRole;
 import com.taskflow.entity.User;
 import com.taskflow.entity.UserTeam;
+import com.taskflow.event.TeamMembershipChangedEvent;
 import com.taskflow.exception.AccessDeniedException;
 import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.exception.ResourceNotFoundException;
@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +39,8 @@ public class TeamService {
     private final UserTeamRepository userTeamRepository;
     private final UserRepository userRepository; // To fetch users if needed
     private final InvitationRepository invitationRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new team and assigns the creator as the ADMIN.
@@ -63,6 +66,9 @@ public class TeamService {
             .role(TeamRole.ROLE_ADMIN)
             .build();
         userTeamRepository.save(membership);
+        eventPublisher.publishEvent(
+            new TeamMembershipChangedEvent(savedTeam.getId(), creator.getId())
+        );
 
         // 3. Return the DTO
         return mapTeamToDto(savedTeam);
@@ -206,6 +212,12 @@ public class TeamService {
             .role(TeamRole.ROLE_MEMBER) // New members are Members
             .build();
         userTeamRepository.save(membership);
+        eventPublisher.publishEvent(
+            new TeamMembershipChangedEvent(
+                invitation.getTeam().getId(),
+                user.getId()
+            )
+        );
 
         // 6. Delete the invitation so it can't be reused
         invitationRepository.delete(invitation);
@@ -239,20 +251,7 @@ public class TeamService {
                 new ResourceNotFoundException("Team", "id", teamId)
             );
 
-        UserTeam membership = userTeamRepository
-            .findByUserIdAndTeamId(userId, teamId)
-            .orElseThrow(() ->
-                new AccessDeniedException("User is not a member of this team")
-            );
-
-        if (membership.getRole() != requiredRole) {
-            // For now, only check for exact role.
-            // We could expand this to hierarchical roles (e.g., ADMIN > MEMBER)
-            throw new AccessDeniedException(
-                "User does not have required permissions: " + requiredRole
-            );
-        }
-
+        membershipAuthorizer.verifyRole(teamId, userId, requiredRole);
         return team;
     }
 
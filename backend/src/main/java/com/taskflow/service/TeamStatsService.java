@@ -0,0 +1,158 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TeamStatsDto;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.event.TaskChange;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.repository.TeamRepository;
+import com.taskflow.repository.TeamTaskCounterRepository;
+import com.taskflow.repository.TeamTaskCounterRepository.CounterKey;
+import com.taskflow.repository.TeamTaskCounterRepository.CounterRow;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serves team dashboard aggregates from team_task_counters.
+ * Counters are adjusted inside the writing transaction, so they commit
+ * or roll back together with the task change that caused them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamStatsService {
+
+    private final TeamTaskCounterRepository counterRepository;
+    private final TeamRepository teamRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+
+    /**
+     * Gets the dashboard aggregates for a team.
+     * One primary-key range read plus one indexed overdue count.
+     */
+    @Transactional(readOnly = true)
+    public TeamStatsDto getStats(Long teamId, User user) {
+        // 1. Verify membership
+        membershipAuthorizer.verifyMember(teamId, user.getId());
+
+        // 2. Fold counter rows into the DTO
+        long total = 0;
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        Map<Long, Long> byAssignee = new HashMap<>();
+        for (CounterRow row : counterRepository.findByTeamId(teamId)) {
+            if (row.getTaskCount() == 0) {
+                continue;
+            }
+            switch (row.getDimension()) {
+                case TeamTaskCounterRepository.TOTAL -> total = row.getTaskCount();
+                case TeamTaskCounterRepository.STATUS -> byStatus.put(
+                    TaskStatus.valueOf(row.getBucket()),
+                    row.getTaskCount()
+                );
+                case TeamTaskCounterRepository.PRIORITY -> byPriority.put(
+                    TaskPriority.valueOf(row.getBucket()),
+                    row.getTaskCount()
+                );
+                case TeamTaskCounterRepository.ASSIGNEE -> byAssignee.put(
+                    Long.valueOf(row.getBucket()),
+                    row.getTaskCount()
+                );
+                default -> log.warn(
+                    "Unknown counter dimension {} for team {}",
+                    row.getDimension(),
+                    teamId
+                );
+            }
+        }
+
+        // 3. Overdue is time-dependent, so it is counted on read
+        return TeamStatsDto.builder()
+            .teamId(teamId)
+            .totalTasks(total)
+            .overdueTasks(counterRepository.countOverdue(teamId))
+            .byStatus(byStatus)
+            .byPriority(byPriority)
+            .byAssignee(byAssignee)
+            .build();
+    }
+
+    /**
+     * Recomputes a team's counters from the tasks table. (Admin only)
+     */
+    @Transactional
+    public TeamStatsDto rebuild(Long teamId, User admin) {
+        membershipAuthorizer.verifyRole(teamId, admin.getId(), TeamRole.ROLE_ADMIN);
+        rebuild(teamId);
+        return getStats(teamId, admin);
+    }
+
+    /**
+     * Recomputes a team's counters without an access check, for operators.
+     */
+    @Transactional
+    public void rebuild(Long teamId) {
+        if (!teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team", "id", teamId);
+        }
+        counterRepository.rebuild(teamId);
+        log.info("Rebuilt task counters for team {}", teamId);
+    }
+
+    /**
+     * Applies counter deltas for every task change in the event.
+     * Runs synchronously in the publisher's transaction.
+     */
+    @EventListener
+    public void onTasksChanged(TasksChangedEvent event) {
+        Map<CounterKey, Long> deltas = new TreeMap<>();
+        for (TaskChange change : event.getChanges()) {
+            addContribution(deltas, change.getBefore(), -1);
+            addContribution(deltas, change.getAfter(), 1);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        counterRepository.applyDeltas(event.getTeamId(), deltas);
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * Adds (sign) to every counter a task contributes to.
+     * Archived tasks contribute nothing, so archiving is a plain decrement.
+     */
+    private void addContribution(
+        Map<CounterKey, Long> deltas,
+        TaskSnapshot snapshot,
+        long sign
+    ) {
+        if (snapshot == null || snapshot.isArchived()) {
+            return;
+        }
+        add(deltas, TeamTaskCounterRepository.TOTAL, TeamTaskCounterRepository.ALL, sign);
+        add(deltas, TeamTaskCounterRepository.STATUS, snapshot.getStatus().name(), sign);
+        add(deltas, TeamTaskCounterRepository.PRIORITY, snapshot.getPriority().name(), sign);
+        for (Long assigneeId : snapshot.getAssigneeIds()) {
+            add(deltas, TeamTaskCounterRepository.ASSIGNEE, assigneeId.toString(), sign);
+        }
+    }
+
+    private void add(
+        Map<CounterKey, Long> deltas,
+        String dimension,
+        String bucket,
+        long delta
+    ) {
+        deltas.merge(new CounterKey(dimension, bucket), delta, Long::sum);
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.User;
+import com.taskflow.event.TaskCommentedEvent;
+import com.taskflow.event.TasksChangedEvent;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.repository.TeamVersionRepository;
+import com.taskflow.repository.TeamVersionRepository.TeamVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Maintains per-team versions and derives strong ETags from them.
+ * Controllers compare the ETag before any task or team rows are loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamVersionService {
+
+    private final TeamVersionRepository teamVersionRepository;
+
+    /**
+     * ETag for a team's task listing, or null if the caller is not a member
+     * (the regular code path then produces the 403/404).
+     * The URL's query string is covered by HTTP caching itself, so the
+     * version alone identifies the representation.
+     */
+    @Transactional(readOnly = true)
+    public String getTeamTasksETag(Long teamId, User user) {
+        Long version = teamVersionRepository.findVersionForMember(
+            teamId,
+            user.getId()
+        );
+        return version == null ? null : "\"t" + teamId + "-v" + version + "\"";
+    }
+
+    /**
+     * ETag for the caller's team list: a digest of every (team, version) pair,
+     * so joining a team or any write in one of them changes it.
+     */
+    @Transactional(readOnly = true)
+    public String getTeamsETag(User user) {
+        List<TeamVersion> versions = teamVersionRepository.findVersionsForUser(
+            user.getId()
+        );
+        StringBuilder key = new StringBuilder("u").append(user.getId());
+        for (TeamVersion version : versions) {
+            key
+                .append(';')
+                .append(version.getTeamId())
+                .append(':')
+                .append(version.getVersion());
+        }
+        return (
+            "\"" +
+            DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) +
+            "\""
+        );
+    }
+
+    // --- Version bumps (run in the publisher's transaction) ---
+
+    @EventListener
+    public void onTasksChanged(TasksChangedEvent event) {
+        teamVersionRepository.bump(event.getTeamId());
+    }
+
+    @EventListener
+    public void onTaskCommented(TaskCommentedEvent event) {
+        teamVersionRepository.bump(event.getTeamId());
+    }
+
+    @EventListener
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        teamVersionRepository.bump(event.getTeamId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskflow.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Single-level hashed timing wheel.
+ * Items are bucketed by fire tick, so advancing the clock only touches the
+ * slots that have come due instead of every scheduled item.
+ * Not thread-safe; owned by one scheduler thread.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Deque<Slot<T>>[] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis Resolution of the wheel.
+     * @param slotCount  Slots per revolution; items further out wait extra laps.
+     * @param nowMillis  Starting time.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("tick and slot count must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Deque[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item. Items already due fire on the next advance.
+     */
+    public void add(long fireAtMillis, T item) {
+        long tick = Math.max(fireAtMillis / tickMillis, currentTick);
+        slots[(int) (tick % slots.length)].add(new Slot<>(tick, item));
+        size++;
+    }
+
+    /**
+     * Moves the wheel to nowMillis and removes every item due by then.
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if (targetTick < currentTick) {
+            return expired;
+        }
+        // A long pause visits every slot once rather than once per missed tick
+        long steps = Math.min(targetTick - currentTick, slots.length - 1);
+        for (long tick = targetTick - steps; tick <= targetTick; tick++) {
+            Iterator<Slot<T>> it = slots[(int) (tick % slots.length)].iterator();
+            while (it.hasNext()) {
+                Slot<T> slot = it.next();
+                if (slot.tick <= targetTick) {
+                    expired.add(slot.item);
+                    it.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (Deque<Slot<T>> slot : slots) {
+            slot.clear();
+        }
+        size = 0;
+    }
+
+    private static class Slot<T> {
+
+        private final long tick;
+        private final T item;
+
+        private Slot(long tick, T item) {
+            this.tick = tick;
+            this.item = item;
+        }
+    }
+}
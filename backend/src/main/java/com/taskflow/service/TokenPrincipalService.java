@@ -0,0 +1,122 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.entity.User;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.repository.UserStateRow;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Builds the request principal from access token claims instead of loading
+ * the User entity on every request (app.jwt.stateless-principal).
+ *
+ * Identity (id, email, name) comes from the token. Status, membership version
+ * and the profile fields used in DTOs come from a short-TTL cache keyed by
+ * user id, so a suspension (or a membership change made on another node)
+ * takes effect within the TTL. The principal is a detached User: fine as an
+ * association target or for DTOs, but it must never be saved (it has no
+ * password hash or collections).
+ *
+ * Metrics: cache.* with tag cache=user.state.
+ */
+@Service
+public class TokenPrincipalService {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String NAME_CLAIM = "name";
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, UserStateRow> states;
+
+    public TokenPrincipalService(
+        UserRepository userRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.jwt.stateless-principal:false}") boolean enabled,
+        @Value("${app.jwt.user-state-cache.max-size:100000}") long maxSize,
+        @Value("${app.jwt.user-state-cache.ttl:30s}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.states = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "user.state");
+    }
+
+    /**
+     * Identity claims to embed in a new access token; empty when disabled.
+     */
+    public Map<String, Object> buildClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        if (enabled) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(NAME_CLAIM, user.getName());
+        }
+        return claims;
+    }
+
+    /**
+     * Builds the principal from verified claims.
+     *
+     * @return The principal, or empty if disabled, the token predates the
+     *         identity claims, or the user no longer exists. Callers then
+     *         fall back to loading the user by email.
+     */
+    public Optional<User> fromClaims(Claims claims) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String name = claims.get(NAME_CLAIM, String.class);
+        if (userId == null || name == null) {
+            return Optional.empty();
+        }
+        // A missing user is not stored, so it is re-checked next time
+        UserStateRow state = states.get(userId, id ->
+            userRepository.findStateById(id).orElse(null)
+        );
+        if (state == null) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .name(name)
+                .status(state.getStatus())
+                .membershipVersion(state.getMembershipVersion())
+                .avatarUrl(state.getAvatarUrl())
+                .createdAt(state.getCreatedAt())
+                .build()
+        );
+    }
+
+    /**
+     * Drops the cached state, e.g. after a status change.
+     */
+    public void invalidate(Long userId) {
+        states.invalidate(userId);
+    }
+
+    /**
+     * The membership version moved; drop it once the change is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+}
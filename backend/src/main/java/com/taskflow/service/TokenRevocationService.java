@@ -0,0 +1,185 @@
+package com.taskflow.service;
+
+import com.taskflow.repository.RevokedTokenRepository;
+import com.taskflow.repository.RevokedTokenRepository.RevokedToken;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Access token revocation (logout) backed by revoked_tokens.
+ *
+ * Each node mirrors the table into a Bloom filter of token ids, so the
+ * common "not revoked" answer costs no I/O; only "maybe" answers (revoked
+ * tokens and false positives) are confirmed with a primary-key lookup.
+ * The filter is topped up every pull interval with rows added since the last
+ * pull, and rebuilt from scratch periodically so that expired revocations
+ * stop occupying bits. Until the first load completes every check goes to
+ * the database.
+ *
+ * Metrics: token.revocation.filter.bytes, .filter.fpp (current estimate),
+ * .filter.target.fpp and token.revocation.checks{result}.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration pullOverlap;
+    private final Duration rebuildInterval;
+    private final int purgeBatchSize;
+
+    private final Counter negativeChecks;
+    private final Counter confirmedChecks;
+    private final Counter falsePositiveChecks;
+
+    private volatile BloomFilter filter; // null until the first load
+    private long watermark; // Highest revocation id seen; scheduler thread only
+    private LocalDateTime lastRebuild;
+
+    public TokenRevocationService(
+        RevokedTokenRepository revokedTokenRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+        @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+        @Value("${app.jwt.revocation.pull-overlap:1m}") Duration pullOverlap,
+        @Value("${app.jwt.revocation.rebuild-interval:1h}") Duration rebuildInterval,
+        @Value("${app.jwt.revocation.purge-batch-size:1000}") int purgeBatchSize
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pullOverlap = pullOverlap;
+        this.rebuildInterval = rebuildInterval;
+        this.purgeBatchSize = purgeBatchSize;
+
+        Gauge.builder("token.revocation.filter.bytes", this, s ->
+            s.filter == null ? 0 : s.filter.sizeInBytes()
+        ).register(meterRegistry);
+        Gauge.builder("token.revocation.filter.fpp", this, s ->
+            s.filter == null ? 0 : s.filter.approximateFalsePositiveRate()
+        ).register(meterRegistry);
+        Gauge.builder("token.revocation.filter.target.fpp", () -> falsePositiveRate)
+            .register(meterRegistry);
+        this.negativeChecks = meterRegistry.counter(
+            "token.revocation.checks", "result", "negative"
+        );
+        this.confirmedChecks = meterRegistry.counter(
+            "token.revocation.checks", "result", "revoked"
+        );
+        this.falsePositiveChecks = meterRegistry.counter(
+            "token.revocation.checks", "result", "false_positive"
+        );
+    }
+
+    /**
+     * Revokes an access token until it expires.
+     */
+    public void revoke(String tokenId, Date expiresAt, Long userId) {
+        revokedTokenRepository.insert(
+            tokenId,
+            userId,
+            LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault())
+        );
+        // Visible on this node at once; other nodes see it on their next pull
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+    }
+
+    /**
+     * @return True if the verified token has been revoked. Tokens issued
+     *         without a jti cannot be revoked.
+     */
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            negativeChecks.increment();
+            return false;
+        }
+        boolean revoked = revokedTokenRepository.isRevoked(tokenId, LocalDateTime.now());
+        if (current != null) {
+            (revoked ? confirmedChecks : falsePositiveChecks).increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Pulls new revocations into the filter, or rebuilds it when due.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.jwt.revocation.pull-interval:10s}",
+        initialDelay = 0
+    )
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        if (filter == null || lastRebuild.plus(rebuildInterval).isBefore(now)) {
+            rebuild(now);
+            return;
+        }
+        // The overlap re-reads rows whose (lower) ids committed after a
+        // higher id was already pulled; adding a key twice is harmless
+        List<RevokedToken> added = revokedTokenRepository.findSince(
+            watermark,
+            now.minus(pullOverlap)
+        );
+        for (RevokedToken token : added) {
+            filter.put(token.getTokenId());
+            watermark = Math.max(watermark, token.getRevocationId());
+        }
+    }
+
+    private void rebuild(LocalDateTime now) {
+        // Expired revocations are not needed: their tokens fail validation anyway
+        int deleted;
+        do {
+            deleted = revokedTokenRepository.purgeExpired(now, purgeBatchSize);
+        } while (deleted == purgeBatchSize);
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long[] maxId = { watermark };
+        long[] count = { 0 };
+        revokedTokenRepository.forEachActive(now, token -> {
+            rebuilt.put(token.getTokenId());
+            maxId[0] = Math.max(maxId[0], token.getRevocationId());
+            count[0]++;
+        });
+        // Catch rows committed while loading before the swap
+        List<RevokedToken> late = revokedTokenRepository.findSince(
+            maxId[0],
+            now.minus(pullOverlap)
+        );
+        for (RevokedToken token : late) {
+            rebuilt.put(token.getTokenId());
+            maxId[0] = Math.max(maxId[0], token.getRevocationId());
+        }
+        filter = rebuilt;
+        watermark = maxId[0];
+        lastRebuild = now;
+        if (count[0] > expectedInsertions) {
+            log.warn(
+                "{} revoked tokens exceed the filter's expected {}; raise " +
+                "app.jwt.revocation.expected-insertions",
+                count[0],
+                expectedInsertions
+            );
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.taskflow.service;
+
+import com.taskflow.config.BoundedPasswordEncoder;
+import com.taskflow.config.RateLimiter;
+import com.taskflow.dto.BulkProvisionUsersRequest;
+import com.taskflow.dto.BulkProvisionUsersResponse;
+import com.taskflow.dto.ProvisionUserResult;
+import com.taskflow.dto.ProvisionUserRow;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserStatus;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.DuplicateResourceException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.TooManyRequestsException;
+import com.taskflow.repository.TeamRepository;
+import com.taskflow.repository.TeamVersionRepository;
+import com.taskflow.repository.UserBatchRepository;
+import com.taskflow.repository.UserRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk user provisioning for onboarding a whole organisation into a team.
+ *
+ * Replaces one register call per user (existsByEmail, a hash, an insert)
+ * with one IN query for duplicates, parallel hashing on the password pool
+ * and batched inserts of the users and their memberships. Hashing happens
+ * before the transaction starts, so no locks are held while it runs.
+ *
+ * Any user can create a team and so become its admin, so this endpoint is
+ * as open as registration. Each admin therefore gets a row budget
+ * (app.users.provisioning.rows-per-user per .period): rows that would
+ * create an account are charged before any hashing, and a request that does
+ * not fit is rejected with 429. This bounds both account creation and the
+ * BCrypt work a single user can put on the pool that logins share.
+ * Budgets are kept per node, like the request rate limits.
+ */
+@Service
+@Slf4j
+public class UserProvisioningService {
+
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final TeamVersionRepository teamVersionRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final RateLimiter rowBudgets;
+    private final RateLimiter.Limit rowBudget;
+
+    public UserProvisioningService(
+        TeamRepository teamRepository,
+        UserRepository userRepository,
+        UserBatchRepository userBatchRepository,
+        TeamVersionRepository teamVersionRepository,
+        MembershipAuthorizer membershipAuthorizer,
+        PasswordEncoder passwordEncoder,
+        TransactionTemplate transactionTemplate,
+        @Value("${app.users.provisioning.rows-per-user:200}") long rowsPerUser,
+        @Value("${app.users.provisioning.period:1h}") Duration period
+    ) {
+        this.teamRepository = teamRepository;
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.teamVersionRepository = teamVersionRepository;
+        this.membershipAuthorizer = membershipAuthorizer;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.rowBudgets = new RateLimiter(10_000, period);
+        this.rowBudget = new RateLimiter.Limit(rowsPerUser, period);
+    }
+
+    /**
+     * Creates the requested users and, if asked, adds them to the team.
+     * Rows whose email is already registered (or repeated earlier in the
+     * request) fail individually; the rest are created.
+     *
+     * @param teamId The team the users are provisioned for.
+     * @param admin  The authenticated user; must be an admin of the team.
+     * @throws DuplicateResourceException if an email was registered
+     *         concurrently; nothing is created and the request can be retried.
+     * @throws TooManyRequestsException if the admin's row budget is used up.
+     */
+    public BulkProvisionUsersResponse provisionUsers(
+        Long teamId,
+        BulkProvisionUsersRequest request,
+        User admin
+    ) {
+        // 1. Validate team exists and the caller is its admin
+        if (!teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team", "id", teamId);
+        }
+        membershipAuthorizer.verifyRole(teamId, admin.getId(), TeamRole.ROLE_ADMIN);
+
+        // 2. Find registered emails in one query
+        List<ProvisionUserRow> rows = request.getUsers();
+        Set<String> existingEmails = userRepository
+            .findByEmailIn(rows.stream().map(ProvisionUserRow::getEmail).toList())
+            .stream()
+            .map(user -> user.getEmail().toLowerCase())
+            .collect(Collectors.toSet());
+
+        // 3. Reject duplicates, keeping the first occurrence within the request
+        ProvisionUserResult[] results = new ProvisionUserResult[rows.size()];
+        Map<String, Integer> accepted = new HashMap<>();
+        List<Integer> rowIndexes = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String email = rows.get(i).getEmail();
+            String key = email.toLowerCase();
+            if (existingEmails.contains(key)) {
+                results[i] = failure(i, email, "Email is already in use");
+            } else if (accepted.putIfAbsent(key, i) != null) {
+                results[i] = failure(
+                    i,
+                    email,
+                    "Duplicate of row " + accepted.get(key) + " in this request"
+                );
+            } else {
+                rowIndexes.add(i);
+            }
+        }
+
+        // 4. Charge the admin's row budget before any expensive work
+        chargeRowBudget(admin, rowIndexes.size());
+
+        // 5. Hash the remaining passwords in parallel, outside any transaction
+        List<String> hashes = encodeAll(
+            rowIndexes.stream().map(i -> rows.get(i).getPassword()).toList()
+        );
+        List<User> users = new ArrayList<>(rowIndexes.size());
+        List<TeamRole> roles = new ArrayList<>(rowIndexes.size());
+        for (int j = 0; j < rowIndexes.size(); j++) {
+            ProvisionUserRow row = rows.get(rowIndexes.get(j));
+            users.add(
+                User.builder()
+                    .name(row.getName())
+                    .email(row.getEmail())
+                    .passwordHash(hashes.get(j))
+                    .status(UserStatus.ACTIVE)
+                    .build()
+            );
+            roles.add(row.getRole() == null ? TeamRole.ROLE_MEMBER : row.getRole());
+        }
+
+        // 6. Insert users and memberships in batches, in one transaction
+        if (!users.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userBatchRepository.insertAll(users);
+                    if (request.isAddToTeam()) {
+                        userBatchRepository.insertMemberships(teamId, users, roles);
+                        // One bump for the whole batch. The per-user
+                        // TeamMembershipChangedEvent is not needed: brand-new
+                        // users have no tokens or cached roles to invalidate.
+                        teamVersionRepository.bump(teamId);
+                    }
+                });
+            } catch (DuplicateKeyException e) {
+                throw new DuplicateResourceException(
+                    "An email in this request was registered concurrently, please retry"
+                );
+            }
+        }
+        for (int j = 0; j < rowIndexes.size(); j++) {
+            int i = rowIndexes.get(j);
+            results[i] = ProvisionUserResult.builder()
+                .row(i)
+                .email(rows.get(i).getEmail())
+                .userId(users.get(j).getId())
+                .success(true)
+                .build();
+        }
+
+        log.info(
+            "Provisioned {} users for team {} ({} rows failed)",
+            users.size(),
+            teamId,
+            rows.size() - users.size()
+        );
+        return BulkProvisionUsersResponse.builder()
+            .created(users.size())
+            .failed(rows.size() - users.size())
+            .results(List.of(results))
+            .build();
+    }
+
+    private void chargeRowBudget(User admin, int rows) {
+        if (rows == 0) {
+            return;
+        }
+        if (rows > rowBudget.getCapacity()) {
+            throw new BadRequestException(
+                "At most " + rowBudget.getCapacity() + " new users per request"
+            );
+        }
+        long waitNanos = rowBudgets.tryAcquire(admin.getId(), rowBudget, rows, System.nanoTime());
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(
+                "User provisioning budget used up, please retry later",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)
+            );
+        }
+    }
+
+    private List<String> encodeAll(List<String> rawPasswords) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedEncoder) {
+            return boundedEncoder.encodeAll(rawPasswords);
+        }
+        return rawPasswords.stream().map(passwordEncoder::encode).toList();
+    }
+
+    private static ProvisionUserResult failure(int row, String email, String error) {
+        return ProvisionUserResult.builder()
+            .row(row)
+            .email(email)
+            .success(false)
+            .error(error)
+            .build();
+    }
+}
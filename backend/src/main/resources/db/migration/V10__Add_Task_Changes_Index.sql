@@ -0,0 +1,5 @@
+-- Task Changes Index
+-- Flyway Migration: V10
+-- Supports delta sync of a team's tasks on (updated_at, task_id)
+
+CREATE INDEX idx_task_team_updated ON tasks (team_id, updated_at, task_id);
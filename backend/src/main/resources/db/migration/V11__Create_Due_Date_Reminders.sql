@@ -0,0 +1,26 @@
+-- Due Date Reminders
+-- Flyway Migration: V11
+-- Leader lease + persisted watermark for background schedulers,
+-- and the claim table that makes DUE_DATE_APPROACHING reminders exactly-once.
+
+CREATE TABLE scheduler_leases
+(
+    name        VARCHAR(64) NOT NULL PRIMARY KEY,
+    owner       VARCHAR(128) NULL COMMENT 'Node currently holding the lease',
+    lease_until TIMESTAMP NULL,
+    watermark   TIMESTAMP NULL COMMENT 'Scheduler-specific progress marker'
+) ENGINE = InnoDB;
+
+INSERT INTO scheduler_leases (name)
+VALUES ('due-date-reminders');
+
+-- No FK to tasks: claims outlive archived tasks and are purged by age
+CREATE TABLE due_date_reminders
+(
+    task_id     BIGINT    NOT NULL,
+    due_date    TIMESTAMP NOT NULL,
+    claim_token CHAR(36)  NOT NULL COMMENT 'Batch that claimed this reminder',
+    created_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (task_id, due_date),
+    INDEX idx_due_reminder_due (due_date)
+) ENGINE = InnoDB;
@@ -0,0 +1,55 @@
+-- Task Cold Storage
+-- Flyway Migration: V12
+-- Archived tasks older than app.tasks.cold-storage.min-age are moved out of
+-- the hot tables (with their assignees and comments) by TaskArchiver.
+
+-- When a task was archived; drives the age cutoff
+ALTER TABLE tasks
+    ADD COLUMN archived_at TIMESTAMP NULL;
+
+UPDATE tasks
+SET archived_at = updated_at,
+    updated_at  = updated_at
+WHERE archived = TRUE;
+
+CREATE INDEX idx_task_archived_at ON tasks (archived_at);
+
+-- Notifications keep their task_id after the task moves to cold storage
+ALTER TABLE notifications
+    DROP FOREIGN KEY notifications_ibfk_2;
+
+-- No foreign keys to hot tables: rows here are immutable history
+CREATE TABLE archived_tasks
+(
+    task_id        BIGINT       NOT NULL PRIMARY KEY,
+    team_id        BIGINT       NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    description    TEXT,
+    status         VARCHAR(32)  NOT NULL,
+    priority       VARCHAR(16)  NOT NULL,
+    due_date       TIMESTAMP NULL,
+    created_by     BIGINT       NOT NULL,
+    created_at     TIMESTAMP    NOT NULL,
+    updated_at     TIMESTAMP    NOT NULL,
+    comments_count INT          NOT NULL DEFAULT 0,
+    archived_at    TIMESTAMP    NOT NULL,
+    moved_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_archived_task_team (team_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE archived_task_assignees
+(
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE archived_comments
+(
+    comment_id BIGINT    NOT NULL PRIMARY KEY,
+    task_id    BIGINT    NOT NULL,
+    user_id    BIGINT    NOT NULL,
+    text       TEXT      NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    INDEX idx_archived_comment_task (task_id, created_at)
+) ENGINE = InnoDB;
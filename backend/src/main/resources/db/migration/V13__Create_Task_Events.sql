@@ -0,0 +1,20 @@
+-- Task Activity Log
+-- Flyway Migration: V13
+-- Append-only history of task changes, one row per changed field.
+-- No foreign keys: history outlives tasks moved to cold storage.
+
+CREATE TABLE task_events
+(
+    event_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    team_id    BIGINT      NOT NULL,
+    task_id    BIGINT      NOT NULL,
+    actor_id   BIGINT NULL COMMENT 'User who made the change',
+    event_type VARCHAR(16) NOT NULL COMMENT 'CREATED, UPDATED, ARCHIVED, RESTORED, COMMENTED',
+    field      VARCHAR(32) NULL COMMENT 'Changed field for UPDATED events',
+    old_value  TEXT NULL,
+    new_value  TEXT NULL,
+    created_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Feeds are read newest first as one range scan per team or task
+    INDEX idx_task_event_team (team_id, event_id),
+    INDEX idx_task_event_task (task_id, event_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,7 @@
+-- User Membership Version
+-- Flyway Migration: V14
+-- Bumped on every membership change of the user. Access tokens carry the
+-- version they were issued at; team claims from older tokens are ignored.
+
+ALTER TABLE users
+    ADD COLUMN membership_version BIGINT NOT NULL DEFAULT 0;
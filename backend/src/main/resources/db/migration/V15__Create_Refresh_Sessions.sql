@@ -0,0 +1,15 @@
+-- Refresh Sessions
+-- Flyway Migration: V15
+-- One row per login session. Only a SHA-256 of the current refresh token's
+-- id (jti) is stored; each refresh swaps it for the next one (rotation).
+
+CREATE TABLE refresh_sessions
+(
+    session_id BIGINT     NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT     NOT NULL,
+    token_hash BINARY(32) NOT NULL COMMENT 'SHA-256 of the current refresh token id',
+    expires_at TIMESTAMP  NOT NULL,
+    created_at TIMESTAMP  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE,
+    INDEX idx_refresh_session_expires (expires_at)
+) ENGINE = InnoDB;
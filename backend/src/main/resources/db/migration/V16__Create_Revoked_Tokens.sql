@@ -0,0 +1,17 @@
+-- Revoked Tokens
+-- Flyway Migration: V16
+-- Access tokens revoked before expiry (logout), keyed by their jti.
+-- Nodes mirror this table into an in-memory Bloom filter; rows are purged
+-- once the token would have expired anyway.
+
+CREATE TABLE revoked_tokens
+(
+    revocation_id BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    token_id      VARCHAR(64) NOT NULL COMMENT 'The token''s jti claim',
+    user_id       BIGINT      NULL,
+    expires_at    TIMESTAMP   NOT NULL,
+    revoked_at    TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_revoked_token_id (token_id),
+    INDEX idx_revoked_token_revoked_at (revoked_at),
+    INDEX idx_revoked_token_expires (expires_at)
+) ENGINE = InnoDB;
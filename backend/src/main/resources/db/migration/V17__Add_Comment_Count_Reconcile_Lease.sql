@@ -0,0 +1,6 @@
+-- Comment Count Reconcile Lease
+-- Flyway Migration: V17
+-- Lets only one node run the nightly comments_count reconciliation.
+
+INSERT INTO scheduler_leases (name)
+VALUES ('comment-count-reconcile');
@@ -0,0 +1,6 @@
+-- Task Listing Indexes
+-- Flyway Migration: V5
+-- Supports keyset pagination of team task listings on (due_date, task_id)
+
+-- Equality on team_id/archived, then walks due_date/task_id in listing order
+CREATE INDEX idx_task_team_archived_due ON tasks (team_id, archived, due_date, task_id);
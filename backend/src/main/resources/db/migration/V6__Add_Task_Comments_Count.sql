@@ -0,0 +1,11 @@
+-- Denormalized Comment Counter
+-- Flyway Migration: V6
+-- Adds 'comments_count' to tasks, maintained on comment insert
+
+ALTER TABLE tasks
+    ADD COLUMN comments_count INT NOT NULL DEFAULT 0 COMMENT 'Maintained by CommentService';
+
+-- Backfill existing counts (keep updated_at, which has ON UPDATE CURRENT_TIMESTAMP)
+UPDATE tasks t
+SET t.comments_count = (SELECT COUNT(*) FROM comments c WHERE c.task_id = t.task_id),
+    t.updated_at     = t.updated_at;
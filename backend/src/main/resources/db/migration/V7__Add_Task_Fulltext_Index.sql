@@ -0,0 +1,6 @@
+-- Task Search
+-- Flyway Migration: V7
+-- Adds a FULLTEXT index over task titles and descriptions for ranked search
+
+ALTER TABLE tasks
+    ADD FULLTEXT INDEX ft_task_title_description (title, description);
@@ -0,0 +1,39 @@
+-- Team Dashboard Counters
+-- Flyway Migration: V8
+-- Per-team task counters maintained by TaskService writes (non-archived tasks only)
+
+CREATE TABLE team_task_counters
+(
+    team_id    BIGINT      NOT NULL,
+    dimension  VARCHAR(16) NOT NULL COMMENT 'TOTAL, STATUS, PRIORITY, ASSIGNEE',
+    bucket     VARCHAR(64) NOT NULL COMMENT 'ALL, enum name, or assignee user id',
+    task_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (team_id, dimension, bucket),
+    FOREIGN KEY (team_id) REFERENCES teams (team_id)
+) ENGINE = InnoDB;
+
+-- Backfill from existing tasks
+INSERT INTO team_task_counters (team_id, dimension, bucket, task_count)
+SELECT team_id, 'TOTAL', 'ALL', COUNT(*)
+FROM tasks
+WHERE archived = FALSE
+GROUP BY team_id;
+
+INSERT INTO team_task_counters (team_id, dimension, bucket, task_count)
+SELECT team_id, 'STATUS', status, COUNT(*)
+FROM tasks
+WHERE archived = FALSE
+GROUP BY team_id, status;
+
+INSERT INTO team_task_counters (team_id, dimension, bucket, task_count)
+SELECT team_id, 'PRIORITY', priority, COUNT(*)
+FROM tasks
+WHERE archived = FALSE
+GROUP BY team_id, priority;
+
+INSERT INTO team_task_counters (team_id, dimension, bucket, task_count)
+SELECT t.team_id, 'ASSIGNEE', CAST(ta.user_id AS CHAR), COUNT(*)
+FROM tasks t
+         JOIN task_assignees ta ON ta.task_id = t.task_id
+WHERE t.archived = FALSE
+GROUP BY t.team_id, ta.user_id;
@@ -0,0 +1,15 @@
+-- Team Versions
+-- Flyway Migration: V9
+-- Monotonic per-team version bumped by every task, comment and membership write.
+-- Backs the ETags on team task listings and the team list.
+
+CREATE TABLE team_versions
+(
+    team_id BIGINT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 1,
+    FOREIGN KEY (team_id) REFERENCES teams (team_id)
+) ENGINE = InnoDB;
+
+INSERT INTO team_versions (team_id, version)
+SELECT team_id, 1
+FROM teams;
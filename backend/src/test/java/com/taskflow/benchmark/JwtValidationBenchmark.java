@@ -0,0 +1,117 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter's token validation.
+ *
+ * legacyThreeParses: the old path (extractUsername, then isTokenValid's
+ * username and expiry checks), each decoding the secret and building a new
+ * key and parser. singleParse: one verification with the shared parser.
+ * cachedParse: a replayed token answered from the verified-token cache.
+ *
+ * Not run by surefire; run with:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskflow.benchmark.JwtValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    // 256-bit test key, base64 encoded as in app.jwt.secret
+    private static final String SECRET =
+        "dGFza2Zsb3ctYmVuY2htYXJrLXNlY3JldC1rZXktMzItYnl0ZXMhIQ==";
+
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = newService(0);
+        cachedService = newService(10_000);
+        user = new User("bench@taskflow.com", "", Collections.emptyList());
+        token = uncachedService.generateAccessToken(user);
+        cachedService.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean legacyThreeParses() {
+        String username = legacyParse(token).getSubject();
+        return (
+            username.equals(user.getUsername()) &&
+            legacyParse(token).getSubject().equals(user.getUsername()) &&
+            !legacyParse(token).getExpiration().before(new Date())
+        );
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        Claims claims = uncachedService.parseClaims(token);
+        return uncachedService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean cachedParse() {
+        Claims claims = cachedService.parseClaims(token);
+        return cachedService.isTokenValid(claims, user);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+
+    private static JwtService newService(long verifiedCacheSize) {
+        return new JwtService(
+            null, // Team and identity claims are only built for taskflow users
+            null,
+            new SimpleMeterRegistry(),
+            SECRET,
+            Duration.ofMinutes(15).toMillis(),
+            Duration.ofDays(7).toMillis(),
+            verifiedCacheSize,
+            Duration.ofMinutes(1)
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
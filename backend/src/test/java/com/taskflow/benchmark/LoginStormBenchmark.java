@@ -0,0 +1,98 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.config.BoundedPasswordEncoder;
+import com.taskflow.exception.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Latency of ordinary API work during a login storm.
+ *
+ * storm: 16 threads run real BCrypt checks (cost 12) through a
+ * BoundedPasswordEncoder with one hashing thread, while 4 threads run
+ * taskRequest, a cheap CPU-bound stand-in for an API call (mapping a page
+ * of DTOs). Sampled, so the report includes taskRequest's p99; it should
+ * stay close to the no-storm figure because the storm can only occupy the
+ * hashing pool. Needs a few cores to mean anything: on a single core the
+ * one hashing thread still competes with every request thread.
+ *
+ * Not run by surefire; run with:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskflow.benchmark.LoginStormBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginStormBenchmark {
+
+    private static final String PASSWORD = "password123";
+
+    private BoundedPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(12);
+        hash = bcrypt.encode(PASSWORD);
+        encoder = new BoundedPasswordEncoder(bcrypt, 1, 4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(16)
+    public boolean login() {
+        try {
+            return encoder.matches(PASSWORD, hash);
+        } catch (ServiceUnavailableException e) {
+            // Queue full: the 503 a real client would get
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(4)
+    public List<String> taskRequest() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            rows.add("task-" + (i * 7919 % 2_000));
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(LoginStormBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
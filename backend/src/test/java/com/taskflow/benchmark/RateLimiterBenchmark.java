@@ -0,0 +1,120 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.RateLimitFilter;
+import com.taskflow.config.RateLimitProperties;
+import com.taskflow.config.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Per-request overhead of rate limiting, with 4 threads.
+ *
+ * hotKey: every thread hits one bucket (worst-case CAS contention).
+ * manyKeys: requests spread over 10,000 buckets.
+ * filter: RateLimitFilter end to end (rule match, key, bucket) for a
+ * matched route, with a no-op chain.
+ * Limits are high enough that every request is permitted.
+ *
+ * Not run by surefire; run with:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskflow.benchmark.RateLimiterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private RateLimiter rateLimiter;
+    private RateLimiter.Limit limit;
+    private String[] keys;
+    private RateLimitFilter filter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(100_000, Duration.ofMinutes(15));
+        limit = new RateLimiter.Limit(1_000_000_000L, Duration.ofSeconds(1));
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("task-writes");
+        rule.setPath("/api/v1/tasks/**");
+        rule.setMethods(List.of("POST", "PUT", "PATCH", "DELETE"));
+        rule.setCapacity(1_000_000_000L);
+        rule.setPeriod(Duration.ofSeconds(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        filter = new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() {
+            request = new MockHttpServletRequest("PATCH", "/api/v1/tasks/42");
+            request.setRemoteAddr("10.0.0." + ThreadLocalRandom.current().nextInt(256));
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return rateLimiter.tryAcquire(keys[0], limit, System.nanoTime());
+    }
+
+    @Benchmark
+    public long manyKeys() {
+        String key = keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+        return rateLimiter.tryAcquire(key, limit, System.nanoTime());
+    }
+
+    @Benchmark
+    public int filter(Request request) throws ServletException, IOException {
+        filter.doFilter(request.request, request.response, NO_OP_CHAIN);
+        return request.response.getStatus();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskflow.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.taskflow.exception.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Saturation tests for BoundedPasswordEncoder.
+ * Latency under a real BCrypt login storm is measured by
+ * LoginStormBenchmark, not here: it depends on the host's core count.
+ */
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void testMatches_FullQueueIsRejectedImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            blockingEncoder(release),
+            2,
+            2
+        );
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            // 2 running + 2 queued
+            List<Future<Boolean>> inFlight = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                inFlight.add(callers.submit(() -> encoder.matches("pw", "hash")));
+            }
+            waitUntil(() -> encoder.getExecutor().getQueue().size() == 2);
+
+            long start = System.nanoTime();
+            assertThrows(ServiceUnavailableException.class, () ->
+                encoder.matches("pw", "hash")
+            );
+            assertTrue(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100,
+                "rejection should not wait for a hashing slot"
+            );
+
+            release.countDown();
+            for (Future<Boolean> future : inFlight) {
+                assertTrue(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void testMatches_AtMostPoolSizeHashesRunAtOnce() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = blockingEncoder(release);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return rawPassword.toString();
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        return blocking.matches(rawPassword, encodedPassword);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+            },
+            2,
+            8
+        );
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            // 8 callers for 2 hashing threads: 2 running + 6 queued
+            List<Future<Boolean>> inFlight = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                inFlight.add(callers.submit(() -> encoder.matches("pw", "hash")));
+            }
+            waitUntil(() ->
+                encoder.getExecutor().getQueue().size() == 6 && running.get() == 2
+            );
+
+            release.countDown();
+            for (Future<Boolean> future : inFlight) {
+                assertTrue(future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(2, maxRunning.get());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.shutdown();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Burst and refill behaviour of RateLimiter's buckets, on a fake clock.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter = new RateLimiter(1000, Duration.ofMinutes(1));
+    // 10 per 10s: one token per second, bursts of 10
+    private final RateLimiter.Limit limit = new RateLimiter.Limit(10, Duration.ofSeconds(10));
+
+    @Test
+    void testTryAcquire_BurstUpToCapacityThenReject() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("a", limit, now), "request " + i);
+        }
+
+        long wait = rateLimiter.tryAcquire("a", limit, now);
+
+        assertEquals(SECOND, wait);
+    }
+
+    @Test
+    void testTryAcquire_RefillsOneTokenPerInterval() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("a", limit, now);
+        }
+
+        assertEquals(0, rateLimiter.tryAcquire("a", limit, now + SECOND));
+        assertTrue(rateLimiter.tryAcquire("a", limit, now + SECOND) > 0);
+        // A long idle period refills the burst, but never beyond capacity
+        long later = now + 60 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("a", limit, later));
+        }
+        assertTrue(rateLimiter.tryAcquire("a", limit, later) > 0);
+    }
+
+    @Test
+    void testTryAcquire_KeysHaveSeparateBuckets() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("a", limit, now);
+        }
+
+        assertTrue(rateLimiter.tryAcquire("a", limit, now) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("b", limit, now));
+    }
+
+    @Test
+    void testTryAcquire_PermitsAreTakenAllOrNothing() {
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, rateLimiter.tryAcquire("a", limit, 8, now));
+        // 2 tokens left: 3 are refused without taking any
+        assertEquals(SECOND, rateLimiter.tryAcquire("a", limit, 3, now));
+        assertEquals(0, rateLimiter.tryAcquire("a", limit, 2, now));
+        assertTrue(rateLimiter.tryAcquire("a", limit, now) > 0);
+    }
+}
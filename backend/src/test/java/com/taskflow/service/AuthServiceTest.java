@@ -43,6 +43,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private RefreshSessionService refreshSessionService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -132,7 +135,7 @@ class AuthServiceTest {
         ).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(user);
         when(jwtService.generateAccessToken(user)).thenReturn("access-token");
-        when(jwtService.generateRefreshToken(user)).thenReturn("refresh-token");
+        when(refreshSessionService.createSession(user)).thenReturn("refresh-token");
         when(jwtService.getAccessTokenExpirationInSeconds()).thenReturn(900L);
 
         // Act
@@ -149,7 +152,7 @@ class AuthServiceTest {
             any(UsernamePasswordAuthenticationToken.class)
         );
         verify(jwtService).generateAccessToken(user);
-        verify(jwtService).generateRefreshToken(user);
+        verify(refreshSessionService).createSession(user);
     }
 
     @Test
@@ -0,0 +1,54 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BloomFilter.
+ */
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_NoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.put(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    void testMightContain_FalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("live-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Target 1%; allow generous slack for hash variance
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.approximateFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    void testSizing_FollowsExpectedInsertionsAndRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.001);
+
+        // ~14.4 bits per item and 10 hashes for 0.1%
+        assertEquals(179_720, filter.sizeInBytes(), 8);
+        assertEquals(10, filter.hashCount());
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.taskflow.config.JwtAuthenticationDetails;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserTeam;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.exception.AccessDeniedException;
+import com.taskflow.repository.UserTeamRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Unit tests for MembershipAuthorizer.
+ */
+class MembershipAuthorizerTest {
+
+    private UserTeamRepository userTeamRepository;
+    private MembershipAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        userTeamRepository = mock(UserTeamRepository.class);
+        authorizer = new MembershipAuthorizer(
+            userTeamRepository,
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofMinutes(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testVerifyMember_RepeatedChecksHitTheDatabaseOnce() {
+        when(userTeamRepository.findByUserIdAndTeamId(1L, 10L)).thenReturn(
+            Optional.of(UserTeam.builder().role(TeamRole.ROLE_MEMBER).build())
+        );
+
+        authorizer.verifyMember(10L, 1L);
+        authorizer.verifyMember(10L, 1L);
+
+        verify(userTeamRepository, times(1)).findByUserIdAndTeamId(1L, 10L);
+    }
+
+    @Test
+    void testVerifyMember_NonMemberIsNotCached() {
+        when(userTeamRepository.findByUserIdAndTeamId(1L, 10L))
+            .thenReturn(Optional.empty())
+            .thenReturn(
+                Optional.of(UserTeam.builder().role(TeamRole.ROLE_MEMBER).build())
+            );
+
+        assertThrows(AccessDeniedException.class, () ->
+            authorizer.verifyMember(10L, 1L)
+        );
+        assertDoesNotThrow(() -> authorizer.verifyMember(10L, 1L));
+    }
+
+    @Test
+    void testVerifyRole_MembershipChangeInvalidatesRole() {
+        when(userTeamRepository.findByUserIdAndTeamId(1L, 10L))
+            .thenReturn(
+                Optional.of(UserTeam.builder().role(TeamRole.ROLE_MEMBER).build())
+            )
+            .thenReturn(
+                Optional.of(UserTeam.builder().role(TeamRole.ROLE_ADMIN).build())
+            );
+
+        assertThrows(AccessDeniedException.class, () ->
+            authorizer.verifyRole(10L, 1L, TeamRole.ROLE_ADMIN)
+        );
+        authorizer.onMembershipChanged(new TeamMembershipChangedEvent(10L, 1L));
+
+        assertDoesNotThrow(() ->
+            authorizer.verifyRole(10L, 1L, TeamRole.ROLE_ADMIN)
+        );
+    }
+
+    @Test
+    void testVerifyRole_FreshTokenClaimsSkipTheDatabase() {
+        User user = User.builder().id(1L).build();
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        authentication.setDetails(
+            new JwtAuthenticationDetails(
+                new MockHttpServletRequest(),
+                "token-1",
+                new Date(),
+                Map.of(10L, TeamRole.ROLE_ADMIN)
+            )
+        );
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        assertDoesNotThrow(() -> authorizer.verifyRole(10L, 1L, TeamRole.ROLE_ADMIN));
+        assertThrows(AccessDeniedException.class, () ->
+            authorizer.verifyMember(11L, 1L)
+        );
+
+        verifyNoInteractions(userTeamRepository);
+    }
+}
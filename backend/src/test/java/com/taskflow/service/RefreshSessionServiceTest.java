@@ -0,0 +1,111 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserStatus;
+import com.taskflow.exception.InvalidTokenException;
+import com.taskflow.repository.RefreshSessionRepository;
+import com.taskflow.repository.RefreshSessionRepository.RefreshSession;
+import com.taskflow.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for RefreshSessionService rotation and reuse detection.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshSessionServiceTest {
+
+    @Mock
+    private RefreshSessionRepository refreshSessionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private RefreshSessionService refreshSessionService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(1L)
+            .email("test@example.com")
+            .status(UserStatus.ACTIVE)
+            .build();
+        Claims claims = Jwts.claims()
+            .subject("test@example.com")
+            .id("token-1")
+            .add(JwtService.TOKEN_TYPE_CLAIM, JwtService.REFRESH_TOKEN_TYPE)
+            .add(JwtService.SESSION_ID_CLAIM, 7L)
+            .build();
+        when(jwtService.parseClaims("refresh-1")).thenReturn(claims);
+        when(jwtService.isRefreshToken(claims)).thenReturn(true);
+    }
+
+    @Test
+    void testRotate_CurrentTokenIssuesNextToken() throws Exception {
+        when(refreshSessionRepository.findById(7L)).thenReturn(
+            Optional.of(session(sha256("token-1")))
+        );
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtService.getRefreshTokenExpiration()).thenReturn(Duration.ofDays(7));
+        when(refreshSessionRepository.rotate(eq(7L), any(), any(), any())).thenReturn(true);
+        when(jwtService.generateRefreshToken(eq(user), eq(7L), anyString())).thenReturn(
+            "refresh-2"
+        );
+
+        RefreshSessionService.Rotation rotation = refreshSessionService.rotate("refresh-1");
+
+        assertEquals("refresh-2", rotation.getRefreshToken());
+        assertSame(user, rotation.getUser());
+        verify(refreshSessionRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    void testRotate_ReusedTokenRevokesSession() throws Exception {
+        // The session has already moved on to a later token
+        when(refreshSessionRepository.findById(7L)).thenReturn(
+            Optional.of(session(sha256("token-2")))
+        );
+
+        assertThrows(InvalidTokenException.class, () ->
+            refreshSessionService.rotate("refresh-1")
+        );
+
+        verify(refreshSessionRepository).delete(7L);
+        verify(refreshSessionRepository, never()).rotate(anyLong(), any(), any(), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    private RefreshSession session(byte[] tokenHash) {
+        return new RefreshSession(7L, 1L, tokenHash, LocalDateTime.now().plusDays(1));
+    }
+
+    private static byte[] sha256(String value) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(
+            value.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.event.TaskCommentedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TaskBoardCache.
+ */
+class TaskBoardCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskBoardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TaskBoardCache(meterRegistry, 100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGetPage_SecondRequestIsServedFromCache() {
+        CursorPageDto<TaskDto> first = cache.getPage(1L, 1L, null, 50, this::load);
+        CursorPageDto<TaskDto> second = cache.getPage(1L, 1L, null, 50, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void testInvalidate_OnCommentReloadsOnlyThatTeam() {
+        cache.getPage(1L, 1L, null, 50, this::load);
+        cache.getPage(2L, 1L, null, 50, this::load);
+
+        cache.onTaskCommented(new TaskCommentedEvent(1L, 10L, 100L, 5L));
+        cache.getPage(1L, 1L, null, 50, this::load);
+        cache.getPage(2L, 1L, null, 50, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testGetPage_NewerVersionReplacesBoardBeforeInvalidation() {
+        cache.getPage(1L, 1L, null, 50, this::load);
+        cache.getPage(1L, 2L, null, 50, this::load);
+        cache.getPage(1L, 2L, null, 50, this::load);
+        // A reader still at the old version does not re-cache its page
+        cache.getPage(1L, 1L, null, 50, this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void testIsCacheable_OnlyDefaultView() {
+        assertTrue(cache.isCacheable(new TaskFilter()));
+        assertFalse(
+            cache.isCacheable(
+                TaskFilter.builder().status(Set.of(TaskStatus.TODO)).build()
+            )
+        );
+        assertFalse(
+            cache.isCacheable(TaskFilter.builder().archived(true).build())
+        );
+    }
+
+    private CursorPageDto<TaskDto> load() {
+        loads.incrementAndGet();
+        return CursorPageDto.<TaskDto>builder().items(List.of()).build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry
+            .get("taskflow.board.cache.requests")
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,228 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.taskflow.dto.CursorPageDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.Team;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserStatus;
+import com.taskflow.entity.UserTeam;
+import com.taskflow.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Guards the task listing read path against N+1 regressions.
+ * Counts statements at the DataSource, so JPA and JdbcTemplate reads are
+ * both included, and checks that the number stays the same no matter how
+ * many tasks are on the page.
+ */
+@SpringBootTest
+@ActiveProfiles("dev") // Use the 'dev' profile (which connects to our Docker DB)
+@Transactional // Roll back database changes after each test
+class TaskListingQueryCountIntegrationTest {
+
+    // Membership check + team version + task page + assignees
+    private static final long MAX_LISTING_STATEMENTS = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementCountingDataSource statementCounter;
+    private User member;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = (StatementCountingDataSource) dataSource;
+
+        member = persistUser("query-count-member@example.com");
+        assignee = persistUser("query-count-assignee@example.com");
+    }
+
+    @Test
+    void testListingStatementCount_IndependentOfPageSize() {
+        Team smallTeam = persistTeamWithTasks("Small Team", 2);
+        Team largeTeam = persistTeamWithTasks("Large Team", 40);
+
+        long smallPageStatements = countListingStatements(smallTeam, 2);
+        long largePageStatements = countListingStatements(largeTeam, 40);
+
+        assertEquals(smallPageStatements, largePageStatements);
+        assertTrue(
+            largePageStatements <= MAX_LISTING_STATEMENTS,
+            "Listing used " + largePageStatements + " statements"
+        );
+    }
+
+    private long countListingStatements(Team team, int expectedTasks) {
+        // Start from an empty persistence context so nothing is served from it
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        CursorPageDto<TaskDto> page = taskService.getTasksForTeam(
+            team.getId(),
+            new TaskFilter(),
+            null,
+            TaskService.MAX_PAGE_SIZE,
+            member
+        );
+
+        assertEquals(expectedTasks, page.getItems().size());
+        page
+            .getItems()
+            .forEach(task -> {
+                assertNotNull(task.getCreatedBy());
+                assertEquals(1, task.getAssignees().size());
+                assertEquals(1, task.getCommentsCount());
+            });
+        return statementCounter.getStatementCount();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+            .name("Query Count User")
+            .email(email)
+            .passwordHash("hashedPassword")
+            .status(UserStatus.ACTIVE)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Team persistTeamWithTasks(String name, int taskCount) {
+        Team team = Team.builder().name(name).createdBy(member).build();
+        entityManager.persist(team);
+        entityManager.persist(
+            UserTeam.builder()
+                .user(member)
+                .team(team)
+                .role(TeamRole.ROLE_ADMIN)
+                .build()
+        );
+
+        for (int i = 0; i < taskCount; i++) {
+            Task task = Task.builder()
+                .team(team)
+                .title("Task " + i)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(LocalDateTime.now().plusDays(i + 1))
+                .createdBy(member)
+                .assignees(Set.of(assignee))
+                .build();
+            entityManager.persist(task);
+            entityManager.persist(
+                Comment.builder().task(task).user(member).text("Hi").build()
+            );
+            entityManager.flush();
+            taskRepository.incrementCommentsCount(task.getId());
+        }
+        return team;
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource &&
+                        !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Counts statements created on its connections. The test transaction
+     * binds one connection, so JPA and JdbcTemplate both go through it.
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private final AtomicLong statements = new AtomicLong();
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countStatements(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password)
+            throws SQLException {
+            return countStatements(super.getConnection(username, password));
+        }
+
+        long getStatementCount() {
+            return statements.get();
+        }
+
+        void reset() {
+            statements.set(0);
+        }
+
+        private Connection countStatements(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (
+                        name.equals("prepareStatement") ||
+                        name.equals("prepareCall") ||
+                        name.equals("createStatement")
+                    ) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TimingWheel.
+ */
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void testAdvance_FiresOnlyItemsDueByNow() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        wheel.add(2_500, "a");
+        wheel.add(5_000, "b");
+
+        assertEquals(List.of(), wheel.advance(1_999));
+        assertEquals(List.of("a"), wheel.advance(2_000));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("b"), wheel.advance(5_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdd_ItemsBeyondOneRevolutionWaitExtraLaps() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, 0);
+        wheel.add(1_000, "near");
+        wheel.add(5_000, "far"); // Same slot, next lap
+
+        assertEquals(List.of("near"), wheel.advance(1_000));
+        assertEquals(List.of("far"), wheel.advance(5_000));
+    }
+
+    @Test
+    void testAdd_PastItemsFireOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, 10_000);
+        wheel.add(0, "late");
+
+        assertEquals(List.of("late"), wheel.advance(10_000));
+    }
+
+    @Test
+    void testAdvance_LongPauseFiresEverythingDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, 0);
+        wheel.add(1_000, "a");
+        wheel.add(3_000, "b");
+        wheel.add(60_000, "c");
+
+        List<String> fired = wheel.advance(30_000);
+
+        assertEquals(2, fired.size());
+        assertTrue(fired.containsAll(List.of("a", "b")));
+        assertEquals(1, wheel.size());
+    }
+}
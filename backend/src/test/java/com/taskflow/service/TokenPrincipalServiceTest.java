@@ -0,0 +1,93 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.taskflow.entity.User;
+import com.taskflow.entity.UserStatus;
+import com.taskflow.event.TeamMembershipChangedEvent;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.repository.UserStateRow;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenPrincipalService.
+ */
+class TokenPrincipalServiceTest {
+
+    private UserRepository userRepository;
+    private TokenPrincipalService service;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = newService(true);
+        claims = Jwts.claims()
+            .subject("test@example.com")
+            .add(TokenPrincipalService.USER_ID_CLAIM, 1L)
+            .add(TokenPrincipalService.NAME_CLAIM, "Test User")
+            .build();
+    }
+
+    @Test
+    void testFromClaims_BuildsPrincipalAndCachesState() {
+        when(userRepository.findStateById(1L)).thenReturn(
+            Optional.of(
+                new UserStateRow(UserStatus.ACTIVE, 3L, null, LocalDateTime.now())
+            )
+        );
+
+        User principal = service.fromClaims(claims).orElseThrow();
+        service.fromClaims(claims);
+
+        assertEquals(1L, principal.getId());
+        assertEquals("test@example.com", principal.getEmail());
+        assertEquals("Test User", principal.getName());
+        assertEquals(3L, principal.getMembershipVersion());
+        verify(userRepository, times(1)).findStateById(1L);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void testFromClaims_MembershipChangeReloadsState() {
+        when(userRepository.findStateById(1L))
+            .thenReturn(
+                Optional.of(new UserStateRow(UserStatus.ACTIVE, 3L, null, null))
+            )
+            .thenReturn(
+                Optional.of(new UserStateRow(UserStatus.ACTIVE, 4L, null, null))
+            );
+
+        service.fromClaims(claims);
+        service.onMembershipChanged(new TeamMembershipChangedEvent(10L, 1L));
+
+        assertEquals(4L, service.fromClaims(claims).orElseThrow().getMembershipVersion());
+    }
+
+    @Test
+    void testFromClaims_DisabledOrOldTokenFallsBack() {
+        Claims oldToken = Jwts.claims().subject("test@example.com").build();
+
+        assertTrue(service.fromClaims(oldToken).isEmpty());
+        assertTrue(newService(false).fromClaims(claims).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    private TokenPrincipalService newService(boolean enabled) {
+        return new TokenPrincipalService(
+            userRepository,
+            new SimpleMeterRegistry(),
+            enabled,
+            100,
+            Duration.ofSeconds(30)
+        );
+    }
+}
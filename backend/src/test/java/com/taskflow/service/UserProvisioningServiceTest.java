@@ -0,0 +1,186 @@
+package com.taskflow.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.taskflow.dto.BulkProvisionUsersRequest;
+import com.taskflow.dto.BulkProvisionUsersResponse;
+import com.taskflow.dto.ProvisionUserRow;
+import com.taskflow.entity.TeamRole;
+import com.taskflow.entity.User;
+import com.taskflow.exception.TooManyRequestsException;
+import com.taskflow.repository.TeamRepository;
+import com.taskflow.repository.TeamVersionRepository;
+import com.taskflow.repository.UserBatchRepository;
+import com.taskflow.repository.UserRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for UserProvisioningService duplicate handling and batching.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
+    @Mock
+    private TeamVersionRepository teamVersionRepository;
+
+    @Mock
+    private MembershipAuthorizer membershipAuthorizer;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProvisioningService userProvisioningService;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        userProvisioningService = new UserProvisioningService(
+            teamRepository,
+            userRepository,
+            userBatchRepository,
+            teamVersionRepository,
+            membershipAuthorizer,
+            passwordEncoder,
+            new TransactionTemplate(transactionManager),
+            3,
+            Duration.ofHours(1)
+        );
+        admin = User.builder().id(1L).email("admin@example.com").build();
+        when(teamRepository.existsById(10L)).thenReturn(true);
+    }
+
+    @Test
+    void testProvisionUsers_DuplicatesFailPerRowAndTheRestAreBatched() {
+        when(userRepository.findByEmailIn(anyList())).thenReturn(
+            List.of(User.builder().id(5L).email("taken@example.com").build())
+        );
+        when(passwordEncoder.encode(any())).thenAnswer(inv -> "hash:" + inv.getArgument(0));
+        doAnswer(inv -> {
+            List<User> users = inv.getArgument(0);
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).setId(100L + i);
+            }
+            return null;
+        })
+            .when(userBatchRepository)
+            .insertAll(anyList());
+
+        BulkProvisionUsersRequest request = BulkProvisionUsersRequest.builder()
+            .users(
+                List.of(
+                    row("Ann", "ann@example.com", null),
+                    row("Taken", "Taken@example.com", null),
+                    row("Ann Again", "ANN@example.com", null),
+                    row("Bob", "bob@example.com", TeamRole.ROLE_VIEWER)
+                )
+            )
+            .build();
+
+        BulkProvisionUsersResponse response = userProvisioningService.provisionUsers(
+            10L,
+            request,
+            admin
+        );
+
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertEquals(100L, response.getResults().get(0).getUserId());
+        assertEquals("Email is already in use", response.getResults().get(1).getError());
+        assertEquals(
+            "Duplicate of row 0 in this request",
+            response.getResults().get(2).getError()
+        );
+        assertEquals(101L, response.getResults().get(3).getUserId());
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).insertAll(users.capture());
+        assertEquals("hash:password-Bob", users.getValue().get(1).getPasswordHash());
+        verify(userBatchRepository).insertMemberships(
+            eq(10L),
+            anyList(),
+            eq(List.of(TeamRole.ROLE_MEMBER, TeamRole.ROLE_VIEWER))
+        );
+        verify(teamVersionRepository, times(1)).bump(10L);
+        verify(membershipAuthorizer).verifyRole(10L, 1L, TeamRole.ROLE_ADMIN);
+    }
+
+    @Test
+    void testProvisionUsers_WithoutTeamMembershipOnlyInsertsUsers() {
+        when(userRepository.findByEmailIn(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+
+        BulkProvisionUsersRequest request = BulkProvisionUsersRequest.builder()
+            .users(List.of(row("Ann", "ann@example.com", null)))
+            .addToTeam(false)
+            .build();
+
+        userProvisioningService.provisionUsers(10L, request, admin);
+
+        verify(userBatchRepository).insertAll(anyList());
+        verify(userBatchRepository, never()).insertMemberships(any(), anyList(), anyList());
+        verify(teamVersionRepository, never()).bump(any());
+    }
+
+    @Test
+    void testProvisionUsers_RowBudgetIsChargedBeforeHashing() {
+        when(userRepository.findByEmailIn(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+
+        BulkProvisionUsersRequest first = BulkProvisionUsersRequest.builder()
+            .users(
+                List.of(row("Ann", "ann@example.com", null), row("Bob", "bob@example.com", null))
+            )
+            .build();
+        userProvisioningService.provisionUsers(10L, first, admin);
+
+        // Budget of 3 rows per hour: one left, two requested
+        BulkProvisionUsersRequest request = BulkProvisionUsersRequest.builder()
+            .users(
+                List.of(row("Cat", "cat@example.com", null), row("Dan", "dan@example.com", null))
+            )
+            .build();
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () ->
+            userProvisioningService.provisionUsers(10L, request, admin)
+        );
+
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        verify(passwordEncoder, times(2)).encode(any());
+        verify(userBatchRepository, times(1)).insertAll(anyList());
+    }
+
+    private static ProvisionUserRow row(String name, String email, TeamRole role) {
+        return ProvisionUserRow.builder()
+            .name(name)
+            .email(email)
+            .password("password-" + name)
+            .role(role)
+            .build();
+    }
+}